@@ -0,0 +1,80 @@
+package com.example.EventEase.benchmarks;
+
+import com.example.EventEase.Entity.User;
+import com.example.EventEase.Repository.AdminRepository;
+import com.example.EventEase.Repository.UserRepository;
+import com.example.EventEase.Security.CachingAuthenticationProvider;
+import com.example.EventEase.Service.CustomUserDetailsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthenticationBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    private CustomUserDetailsService userDetailsService;
+    private PasswordEncoder passwordEncoder;
+    private CachingAuthenticationProvider cachingProvider;
+    private String email;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder();
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+
+        User user = Fixtures.user(7L);
+        user.setPassword(encodedPassword);
+        email = user.getEmail();
+
+        AdminRepository adminRepository = Fixtures.stub(AdminRepository.class);
+        UserRepository userRepository = Fixtures.stub(UserRepository.class);
+        when(adminRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+
+        userDetailsService = new CustomUserDetailsService(adminRepository, userRepository);
+        cachingProvider = new CachingAuthenticationProvider(userDetailsService, passwordEncoder, 60, 10_000);
+        cachingProvider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(email, PASSWORD));
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return userDetailsService.loadUserByUsername(email);
+    }
+
+    @Benchmark
+    public boolean loadUserAndVerifyPassword() {
+        UserDetails user = userDetailsService.loadUserByUsername(email);
+        return passwordEncoder.matches(PASSWORD, user.getPassword());
+    }
+
+    @Benchmark
+    public Authentication cachedAuthentication() {
+        return cachingProvider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(email, PASSWORD));
+    }
+}
\ No newline at end of file
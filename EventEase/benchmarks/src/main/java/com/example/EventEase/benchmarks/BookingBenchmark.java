@@ -0,0 +1,101 @@
+package com.example.EventEase.benchmarks;
+
+import com.example.EventEase.Entity.Booking;
+import com.example.EventEase.Entity.Event;
+import com.example.EventEase.Entity.User;
+import com.example.EventEase.Repository.BookingRepository;
+import com.example.EventEase.Repository.EventRepository;
+import com.example.EventEase.Repository.SeatHoldRepository;
+import com.example.EventEase.Repository.UserRepository;
+import com.example.EventEase.Service.BookingMetrics;
+import com.example.EventEase.Service.BookingService;
+import com.example.EventEase.Service.SeatInventory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingBenchmark {
+
+    private static final long EVENT_ID = 42L;
+    private static final int SEATS = 1_000_000_000;
+
+    @Param({"INVENTORY", "DATABASE"})
+    public BookingService.ReservationMode mode;
+
+    private BookingService bookingService;
+    private SeatInventory seatInventory;
+    private Event event;
+    private String email;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        event = Fixtures.event(EVENT_ID, Fixtures.admin());
+        event.setTotalSeats(SEATS);
+        event.setBookedSeats(0);
+        User user = Fixtures.user(7L);
+        email = user.getEmail();
+
+        EventRepository eventRepository = Fixtures.stub(EventRepository.class);
+        UserRepository userRepository = Fixtures.stub(UserRepository.class);
+        BookingRepository bookingRepository = Fixtures.stub(BookingRepository.class);
+
+        when(eventRepository.findById(EVENT_ID)).thenReturn(Optional.of(event));
+        when(eventRepository.getReferenceById(EVENT_ID)).thenReturn(event);
+        when(eventRepository.reserveSeats(anyLong(), anyInt())).thenReturn(1);
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(bookingRepository.existsByUserIdAndEventId(anyLong(), anyLong())).thenReturn(false);
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionTemplate transactionTemplate = Fixtures.transactionTemplate();
+        seatInventory = new SeatInventory(eventRepository, transactionTemplate, change -> { }, mode);
+        seatInventory.track(event);
+
+        bookingService = new BookingService(bookingRepository, eventRepository, userRepository,
+                Fixtures.stub(SeatHoldRepository.class), seatInventory,
+                transactionTemplate, Fixtures.stub(ObjectProvider.class), new BookingMetrics(new SimpleMeterRegistry()),
+                change -> { }, mode, 3, 20);
+    }
+
+    @Setup(Level.Iteration)
+    public void refill() {
+        seatInventory.forget(EVENT_ID);
+        seatInventory.track(event);
+    }
+
+    @Benchmark
+    public Optional<Booking> bookSeats() {
+        return bookingService.bookSeats(EVENT_ID, email, 1);
+    }
+
+    @Benchmark
+    public BookingService.ReservationStatus reserveTicket() {
+        return bookingService.reserveTicket(EVENT_ID, email);
+    }
+}
\ No newline at end of file
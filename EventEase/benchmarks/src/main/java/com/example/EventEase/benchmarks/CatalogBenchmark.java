@@ -0,0 +1,105 @@
+package com.example.EventEase.benchmarks;
+
+import com.example.EventEase.Dto.EventSummary;
+import com.example.EventEase.Dto.TagQueryResult;
+import com.example.EventEase.Entity.Event;
+import com.example.EventEase.Repository.EventRepository;
+import com.example.EventEase.Service.BookingService;
+import com.example.EventEase.Service.CatalogChange;
+import com.example.EventEase.Service.EventCache;
+import com.example.EventEase.Service.EventSearchIndex;
+import com.example.EventEase.Service.SeatInventory;
+import com.example.EventEase.Service.TagIndex;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CatalogBenchmark {
+
+    @Param({"1000", "20000"})
+    public int eventCount;
+
+    private TagIndex tagIndex;
+    private EventSearchIndex searchIndex;
+    private EventCache eventCache;
+
+    @Setup
+    public void setUp() {
+        List<Event> events = Fixtures.events(eventCount);
+
+        EventRepository eventRepository = Fixtures.stub(EventRepository.class);
+        when(eventRepository.findAllWithAdmin()).thenReturn(events);
+        when(eventRepository.findWithAdminById(anyLong()))
+                .thenAnswer(invocation -> Optional.of(events.get((int) (invocation.<Long>getArgument(0) - 1))));
+
+        TransactionTemplate transactionTemplate = Fixtures.transactionTemplate();
+        SeatInventory seatInventory = new SeatInventory(eventRepository, transactionTemplate, change -> { },
+                BookingService.ReservationMode.INVENTORY);
+        events.forEach(seatInventory::track);
+
+        tagIndex = new TagIndex(eventRepository, transactionTemplate);
+        searchIndex = new EventSearchIndex(eventRepository, seatInventory, transactionTemplate);
+        for (Event event : events) {
+            CatalogChange change = CatalogChange.saved(event);
+            tagIndex.onCatalogChange(change);
+            searchIndex.onCatalogChange(change);
+        }
+
+        eventCache = new EventCache(eventRepository, seatInventory, Fixtures.stub(EntityManager.class), eventCount, 3600);
+        eventCache.findAll();
+    }
+
+    @Benchmark
+    public TagQueryResult tagQueryAny() {
+        return tagIndex.query(List.of("tech", "music"), false);
+    }
+
+    @Benchmark
+    public TagQueryResult tagQueryAll() {
+        return tagIndex.query(List.of("tech", "career"), true);
+    }
+
+    @Benchmark
+    public List<EventSummary> searchExact() {
+        return searchIndex.search("developer summit", 20);
+    }
+
+    @Benchmark
+    public List<EventSummary> searchPrefixAndTypo() {
+        return searchIndex.search("festvial work", 20);
+    }
+
+    @Benchmark
+    public Optional<Event> cachedEventById() {
+        return eventCache.findById(ThreadLocalRandom.current().nextLong(1, eventCount + 1));
+    }
+
+    @Benchmark
+    public List<Event> cachedCatalog() {
+        return eventCache.findAll();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.example.EventEase.benchmarks;
+
+import com.example.EventEase.Entity.Admin;
+import com.example.EventEase.Entity.Booking;
+import com.example.EventEase.Entity.Event;
+import com.example.EventEase.Entity.User;
+import org.mockito.Mockito;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+final class Fixtures {
+
+    static final String[] TAGS = {"tech", "music", "sports", "career", "workshop", "hackathon", "art", "startup", "ai", "cloud"};
+    static final String[] VENUES = {"Main Auditorium", "Hall A", "Seminar Room 2", "Open Air Theatre", "Library Lawn"};
+    static final String[] WORDS = {"annual", "developer", "summit", "music", "festival", "career", "fair", "robotics",
+            "workshop", "startup", "pitch", "night", "cloud", "native", "meetup", "design", "sprint", "quiz"};
+
+    private Fixtures() {
+    }
+
+    static <T> T stub(Class<T> type) {
+        return Mockito.mock(type, Mockito.withSettings().stubOnly());
+    }
+
+    static TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(new NoOpTransactionManager());
+    }
+
+    static Admin admin() {
+        Admin admin = new Admin();
+        admin.setId(1L);
+        admin.setName("Campus Events");
+        admin.setLocation("Ahmedabad");
+        admin.setEmail("admin@eventease.dev");
+        admin.setPassword("{bcrypt}unused");
+        admin.setContact("9999999999");
+        return admin;
+    }
+
+    static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setName("Student " + id);
+        user.setEmail("student" + id + "@eventease.dev");
+        user.setPassword("{bcrypt}unused");
+        user.setUniversity("Gujarat University");
+        user.setCourse("B.Tech");
+        user.setCurrentlyStudyingOrNot(true);
+        return user;
+    }
+
+    static Event event(long id, Admin admin) {
+        Event event = new Event();
+        event.setId(id);
+        event.setName(WORDS[(int) (id % WORDS.length)] + " " + WORDS[(int) ((id * 7) % WORDS.length)] + " " + id);
+        event.setAbout("A " + WORDS[(int) ((id * 3) % WORDS.length)] + " event with talks, demos and a "
+                + WORDS[(int) ((id * 5) % WORDS.length)] + " session for students.");
+        event.setTags(Set.of(TAGS[(int) (id % TAGS.length)], TAGS[(int) ((id + 3) % TAGS.length)]));
+        event.setOrganizationName("Club " + (id % 40));
+        event.setDate(LocalDateTime.of(2026, 1, 1, 10, 0).plusHours(id * 5));
+        event.setVenue(VENUES[(int) (id % VENUES.length)]);
+        event.setTotalSeats(500);
+        event.setBookedSeats((int) (id % 500));
+        event.setAdmin(admin);
+        return event;
+    }
+
+    static Booking booking(long id, User user, Event event) {
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setUser(user);
+        booking.setEvent(event);
+        booking.setSeatsBooked(1);
+        booking.setBookingTime(LocalDateTime.of(2026, 1, 1, 9, 30));
+        return booking;
+    }
+
+    static List<Event> events(int count) {
+        Admin admin = admin();
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> event(id, admin))
+                .toList();
+    }
+
+    static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
\ No newline at end of file
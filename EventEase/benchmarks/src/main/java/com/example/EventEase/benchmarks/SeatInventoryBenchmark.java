@@ -0,0 +1,67 @@
+package com.example.EventEase.benchmarks;
+
+import com.example.EventEase.Entity.Event;
+import com.example.EventEase.Repository.EventRepository;
+import com.example.EventEase.Service.BookingService;
+import com.example.EventEase.Service.SeatInventory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Group)
+public class SeatInventoryBenchmark {
+
+    private static final long EVENT_ID = 1L;
+
+    private SeatInventory seatInventory;
+    private Event event;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        event = Fixtures.event(EVENT_ID, Fixtures.admin());
+        event.setTotalSeats(1_000_000_000);
+        event.setBookedSeats(0);
+
+        seatInventory = new SeatInventory(Fixtures.stub(EventRepository.class), Fixtures.transactionTemplate(),
+                change -> { }, BookingService.ReservationMode.INVENTORY);
+        seatInventory.track(event);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean reserveUncontended() {
+        return seatInventory.tryReserve(EVENT_ID, 1);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(6)
+    public boolean reserve() {
+        return seatInventory.tryReserve(EVENT_ID, 1);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(2)
+    public void release() {
+        seatInventory.release(EVENT_ID, 1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.example.EventEase.benchmarks;
+
+import com.example.EventEase.Entity.Booking;
+import com.example.EventEase.Entity.Event;
+import com.example.EventEase.Entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<Event> events;
+    private List<Booking> bookings;
+    private byte[] eventsJson;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().build();
+        events = Fixtures.events(size);
+
+        bookings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            User user = Fixtures.user(i + 1);
+            bookings.add(Fixtures.booking(i + 1, user, events.get(i % events.size())));
+        }
+
+        eventsJson = objectMapper.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] serializeEvents() {
+        return objectMapper.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] serializeBookings() {
+        return objectMapper.writeValueAsBytes(bookings);
+    }
+
+    @Benchmark
+    public Event[] deserializeEvents() {
+        return objectMapper.readValue(eventsJson, Event[].class);
+    }
+}
\ No newline at end of file
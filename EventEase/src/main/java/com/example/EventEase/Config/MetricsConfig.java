@@ -0,0 +1,48 @@
+package com.example.EventEase.Config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import java.util.function.ToDoubleFunction;
+
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder hibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        return registry -> {
+            counter(registry, statistics, "eventease.hibernate.queries", "HQL/JPQL and native queries executed", Statistics::getQueryExecutionCount);
+            counter(registry, statistics, "eventease.hibernate.statements", "JDBC statements prepared", Statistics::getPrepareStatementCount);
+            counter(registry, statistics, "eventease.hibernate.entity.loads", "Entities loaded from the database", Statistics::getEntityLoadCount);
+            counter(registry, statistics, "eventease.hibernate.entity.fetches", "Lazy entity fetches", Statistics::getEntityFetchCount);
+            counter(registry, statistics, "eventease.hibernate.collection.loads", "Collections loaded from the database", Statistics::getCollectionLoadCount);
+            counter(registry, statistics, "eventease.hibernate.second.level.hits", "Second-level cache hits", Statistics::getSecondLevelCacheHitCount);
+            counter(registry, statistics, "eventease.hibernate.second.level.misses", "Second-level cache misses", Statistics::getSecondLevelCacheMissCount);
+            counter(registry, statistics, "eventease.hibernate.sessions", "Sessions opened", Statistics::getSessionOpenCount);
+            counter(registry, statistics, "eventease.hibernate.optimistic.failures", "Optimistic lock failures", Statistics::getOptimisticFailureCount);
+
+            Gauge.builder("eventease.hibernate.query.max.time", statistics, Statistics::getQueryExecutionMaxTime)
+                    .description("Slowest query execution time in milliseconds")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        };
+    }
+
+    private static void counter(MeterRegistry registry, Statistics statistics,
+                                String name, String description, ToDoubleFunction<Statistics> value) {
+        FunctionCounter.builder(name, statistics, value)
+                .description(description)
+                .register(registry);
+    }
+}
\ No newline at end of file
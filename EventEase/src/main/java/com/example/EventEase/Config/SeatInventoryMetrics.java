@@ -0,0 +1,42 @@
+package com.example.EventEase.Config;
+
+import com.example.EventEase.Service.SeatChange;
+import com.example.EventEase.Service.SeatInventory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class SeatInventoryMetrics {
+
+    private final SeatInventory seatInventory;
+    private final MultiGauge available;
+    private final MultiGauge booked;
+
+    public SeatInventoryMetrics(SeatInventory seatInventory, MeterRegistry registry) {
+        this.seatInventory = seatInventory;
+        this.available = MultiGauge.builder("eventease.seats.available")
+                .description("Seats still available per event, from the live inventory")
+                .register(registry);
+        this.booked = MultiGauge.builder("eventease.seats.booked")
+                .description("Seats booked per event, from the live inventory")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${eventease.metrics.seat-refresh-ms:10000}")
+    public void refresh() {
+        List<SeatChange> snapshot = seatInventory.snapshot();
+
+        available.register(snapshot.stream()
+                .map(seats -> MultiGauge.Row.of(Tags.of("event", seats.getEventId().toString()),
+                        seats.getTotalSeats() - seats.getBookedSeats()))
+                .toList(), true);
+        booked.register(snapshot.stream()
+                .map(seats -> MultiGauge.Row.of(Tags.of("event", seats.getEventId().toString()), seats.getBookedSeats()))
+                .toList(), true);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+package com.example.EventEase.Config;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+public final class SqlBudget {
+
+    private static final ThreadLocal<Tally> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlBudget() {
+    }
+
+    public static final class Tally {
+
+        private int maxStatements;
+        private final int repeatThreshold;
+        private final boolean strict;
+
+        private int statements;
+        private long nanos;
+        private final Map<String, Integer> fingerprints = new HashMap<>();
+
+        Tally(int maxStatements, int repeatThreshold, boolean strict) {
+            this.maxStatements = maxStatements;
+            this.repeatThreshold = repeatThreshold;
+            this.strict = strict;
+        }
+
+        void record(String sql, long elapsedNanos) {
+            statements++;
+            nanos += elapsedNanos;
+            String fingerprint = fingerprint(sql);
+            int repeats = fingerprints.merge(fingerprint, 1, Integer::sum);
+
+            if (strict && maxStatements > 0 && statements > maxStatements) {
+                throw new SqlBudgetExceededException("Statement budget of " + maxStatements + " exceeded by: " + fingerprint);
+            }
+            if (strict && repeatThreshold > 0 && repeats >= repeatThreshold) {
+                throw new SqlBudgetExceededException("Possible N+1: statement repeated " + repeats + " times: " + fingerprint);
+            }
+        }
+
+        public void pin(int maxStatements) {
+            this.maxStatements = maxStatements;
+        }
+
+        public int statements() {
+            return statements;
+        }
+
+        public long nanos() {
+            return nanos;
+        }
+
+        public int maxStatements() {
+            return maxStatements;
+        }
+
+        public boolean overBudget() {
+            return maxStatements > 0 && statements > maxStatements;
+        }
+
+        public Map.Entry<String, Integer> mostRepeated() {
+            return fingerprints.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .orElse(null);
+        }
+
+        public boolean repeats() {
+            Map.Entry<String, Integer> top = mostRepeated();
+            return repeatThreshold > 0 && top != null && top.getValue() >= repeatThreshold;
+        }
+    }
+
+    public static Tally begin(int maxStatements, int repeatThreshold, boolean strict) {
+        Tally tally = new Tally(maxStatements, repeatThreshold, strict);
+        CURRENT.set(tally);
+        return tally;
+    }
+
+    public static Tally current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static Tally measure(Runnable action) {
+        return measure(() -> {
+            action.run();
+            return null;
+        }).tally;
+    }
+
+    public static <T> Measured<T> measure(Supplier<T> action) {
+        Tally previous = CURRENT.get();
+        Tally tally = begin(0, 0, false);
+        try {
+            return new Measured<>(action.get(), tally);
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                end();
+            }
+        }
+    }
+
+    public static void assertAtMost(int maxStatements, Runnable action) {
+        Tally tally = measure(action);
+        if (tally.statements() > maxStatements) {
+            throw new SqlBudgetExceededException("Expected at most " + maxStatements + " statements but executed "
+                    + tally.statements() + "; most repeated: " + tally.mostRepeated());
+        }
+    }
+
+    public record Measured<T>(T result, Tally tally) {
+    }
+
+    static void record(String sql, long elapsedNanos) {
+        Tally tally = CURRENT.get();
+        if (tally != null) {
+            tally.record(sql, elapsedNanos);
+        }
+    }
+
+    static String fingerprint(String sql) {
+        if (sql == null) {
+            return "<batch>";
+        }
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?)");
+        return normalized.trim().toLowerCase(Locale.ROOT);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.example.EventEase.Config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "eventease.sql-budget.enabled", havingValue = "true", matchIfMissing = false)
+public class SqlBudgetConfig implements WebMvcConfigurer {
+
+    @Bean
+    public static BeanPostProcessor sqlCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlCountingDataSource)) {
+                    return new SqlCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SqlBudgetFilter sqlBudgetFilter(@Value("${eventease.sql-budget.max-statements:20}") int maxStatements,
+                                           @Value("${eventease.sql-budget.repeat-threshold:10}") int repeatThreshold,
+                                           @Value("${eventease.sql-budget.strict:false}") boolean strict,
+                                           MeterRegistry meterRegistry) {
+        return new SqlBudgetFilter(maxStatements, repeatThreshold, strict, meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                SqlBudget.Tally tally = SqlBudget.current();
+                if (tally != null && handler instanceof HandlerMethod method) {
+                    QueryBudget budget = method.getMethodAnnotation(QueryBudget.class);
+                    if (budget != null) {
+                        tally.pin(budget.value());
+                    }
+                }
+                return true;
+            }
+        });
+    }
+}
\ No newline at end of file
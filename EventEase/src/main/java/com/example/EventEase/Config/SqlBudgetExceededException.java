@@ -0,0 +1,8 @@
+package com.example.EventEase.Config;
+
+public class SqlBudgetExceededException extends IllegalStateException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.example.EventEase.Config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class SqlBudgetFilter extends OncePerRequestFilter implements Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetFilter.class);
+
+    private final int maxStatements;
+    private final int repeatThreshold;
+    private final boolean strict;
+    private final DistributionSummary statementsPerRequest;
+    private final Timer sqlTimePerRequest;
+
+    public SqlBudgetFilter(int maxStatements, int repeatThreshold, boolean strict, MeterRegistry registry) {
+        this.maxStatements = maxStatements;
+        this.repeatThreshold = repeatThreshold;
+        this.strict = strict;
+        this.statementsPerRequest = DistributionSummary.builder("eventease.sql.statements.per.request")
+                .description("JDBC statements executed while serving one HTTP request")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        this.sqlTimePerRequest = Timer.builder("eventease.sql.time.per.request")
+                .description("Time spent in JDBC statements while serving one HTTP request")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlBudget.Tally tally = SqlBudget.begin(maxStatements, repeatThreshold, strict);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlBudget.end();
+            report(request, tally);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlBudget.Tally tally) {
+        statementsPerRequest.record(tally.statements());
+        sqlTimePerRequest.record(tally.nanos(), TimeUnit.NANOSECONDS);
+
+        if (!tally.overBudget() && !tally.repeats()) {
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        Map.Entry<String, Integer> top = tally.mostRepeated();
+
+        log.warn("{} executed {} SQL statements in {} ms (budget {}); most repeated x{}: {}",
+                endpoint, tally.statements(), TimeUnit.NANOSECONDS.toMillis(tally.nanos()), tally.maxStatements(),
+                top.getValue(), top.getKey());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.example.EventEase.Controller;
+
+import com.example.EventEase.Dto.AnalyticsReport;
+import com.example.EventEase.Dto.OnboardingReport;
+import com.example.EventEase.Security.CachingAuthenticationProvider;
+import com.example.EventEase.Service.BookingAnalytics;
+import com.example.EventEase.Service.UserImporter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import tools.jackson.core.JacksonException;
+
+import java.io.InputStream;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private static final int MAX_ANALYTICS_DAYS = 366;
+
+    private final UserImporter userImporter;
+    private final CachingAuthenticationProvider authenticationProvider;
+    private final BookingAnalytics bookingAnalytics;
+
+    public AdminController(UserImporter userImporter, CachingAuthenticationProvider authenticationProvider,
+                           BookingAnalytics bookingAnalytics) {
+        this.userImporter = userImporter;
+        this.authenticationProvider = authenticationProvider;
+        this.bookingAnalytics = bookingAnalytics;
+    }
+
+    @PostMapping(value = "/users/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> importUsers(InputStream body) {
+        try {
+            OnboardingReport report = userImporter.importUsers(body);
+            report.getRows().stream()
+                    .filter(row -> row.getOutcome() == OnboardingReport.Outcome.CREATED)
+                    .forEach(row -> authenticationProvider.invalidate(row.getEmail()));
+            return ResponseEntity.status(201).body(report);
+        } catch (JacksonException e) {
+            return ResponseEntity.badRequest().body("Import rejected: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/analytics")
+    public ResponseEntity<?> getAnalytics(Authentication authentication,
+                                          @RequestParam(defaultValue = "day") String granularity,
+                                          @RequestParam(defaultValue = "30") int days,
+                                          @RequestParam(defaultValue = "5") int top) {
+        BookingAnalytics.Granularity bucket;
+        try {
+            bucket = BookingAnalytics.Granularity.valueOf(granularity.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("granularity must be 'hour' or 'day'");
+        }
+
+        AnalyticsReport report = bookingAnalytics.report(authentication.getName(), bucket,
+                Math.min(Math.max(days, 1), MAX_ANALYTICS_DAYS), top);
+        return ResponseEntity.ok(report);
+    }
+}
\ No newline at end of file
@@ -2,10 +2,14 @@ package com.example.EventEase.Controller;
 
 import com.example.EventEase.Entity.Admin;
 import com.example.EventEase.Entity.User;
+import com.example.EventEase.Security.CachingAuthenticationProvider;
+import com.example.EventEase.Security.SecurityConfig;
+import com.example.EventEase.Security.TokenService;
 import com.example.EventEase.Service.AdminService;
 import com.example.EventEase.Service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.Data; // Ensure Lombok is available
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -26,15 +30,34 @@ public class AuthController {
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
+    private final CachingAuthenticationProvider authenticationProvider;
+    private final TokenService tokenService;
 
     public AuthController(AdminService adminService,
                           UserService userService,
                           PasswordEncoder passwordEncoder,
-                          AuthenticationManager authenticationManager) {
+                          AuthenticationManager authenticationManager,
+                          CachingAuthenticationProvider authenticationProvider,
+                          TokenService tokenService) {
         this.adminService = adminService;
         this.userService = userService;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
+        this.authenticationProvider = authenticationProvider;
+        this.tokenService = tokenService;
+    }
+
+    private HttpHeaders establishAuthentication(Authentication auth, HttpServletRequest httpRequest) {
+        HttpHeaders headers = new HttpHeaders();
+
+        if (tokenService.isEnabled()) {
+            headers.set(SecurityConfig.AUTH_TOKEN_HEADER, tokenService.issue(auth));
+            return headers;
+        }
+
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        httpRequest.getSession(true).setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, SecurityContextHolder.getContext());
+        return headers;
     }
 
 
@@ -48,6 +71,7 @@ public class AuthController {
     public ResponseEntity<?> registerAdmin(@RequestBody Admin admin) {
         admin.setPassword(passwordEncoder.encode(admin.getPassword()));
         Admin savedAdmin = adminService.createAdmin(admin);
+        authenticationProvider.invalidate(savedAdmin.getEmail());
         return ResponseEntity.ok(savedAdmin);
     }
 
@@ -55,6 +79,7 @@ public class AuthController {
     public ResponseEntity<?> registerUser(@RequestBody User user) {
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         User savedUser = userService.createUser(user);
+        authenticationProvider.invalidate(savedUser.getEmail());
         return ResponseEntity.ok(savedUser);
     }
 
@@ -65,11 +90,10 @@ public class AuthController {
                     new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword())
             );
 
-            SecurityContextHolder.getContext().setAuthentication(auth);
-            httpRequest.getSession(true).setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, SecurityContextHolder.getContext());
+            HttpHeaders headers = establishAuthentication(auth, httpRequest);
 
             Optional<Admin> adminOptional = adminService.findByEmail(loginRequest.getEmail());
-            return adminOptional.<ResponseEntity<?>>map(ResponseEntity::ok)
+            return adminOptional.<ResponseEntity<?>>map(admin -> ResponseEntity.ok().headers(headers).body(admin))
                     .orElseGet(() -> ResponseEntity.status(500).body("Authentication succeeded, but user data retrieval failed."));
 
         } catch (BadCredentialsException e) {
@@ -86,11 +110,10 @@ public class AuthController {
                     new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword())
             );
 
-            SecurityContextHolder.getContext().setAuthentication(auth);
-            httpRequest.getSession(true).setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, SecurityContextHolder.getContext());
+            HttpHeaders headers = establishAuthentication(auth, httpRequest);
 
             Optional<User> userOpt = userService.findByEmail(loginRequest.getEmail());
-            return userOpt.<ResponseEntity<?>>map(ResponseEntity::ok)
+            return userOpt.<ResponseEntity<?>>map(user -> ResponseEntity.ok().headers(headers).body(user))
                     .orElseGet(() -> ResponseEntity.status(500).body("Authentication succeeded, but user data retrieval failed."));
 
         } catch (BadCredentialsException e) {
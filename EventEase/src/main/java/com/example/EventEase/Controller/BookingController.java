@@ -1,19 +1,28 @@
 package com.example.EventEase.Controller;
 
+import com.example.EventEase.Config.QueryBudget;
+import com.example.EventEase.Dto.AdmissionTicket;
+import com.example.EventEase.Dto.RegistrationView;
 import com.example.EventEase.Entity.Booking;
 import com.example.EventEase.Entity.Event;
-import com.example.EventEase.Entity.User;
-import com.example.EventEase.Repository.BookingRepository;
 import com.example.EventEase.Repository.EventRepository;
 import com.example.EventEase.Service.BookingService;
-import com.example.EventEase.Service.UserService;
+import com.example.EventEase.Security.SecurityConfig;
+import com.example.EventEase.Service.IdempotencyStore;
+import com.example.EventEase.Service.RegistrationExporter;
+import com.example.EventEase.Service.SeatHolds;
+import com.example.EventEase.Service.WaitingRoom;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -23,15 +32,21 @@ import java.util.Optional;
 public class BookingController {
 
     private final EventRepository eventRepository;
-    private final BookingRepository bookingRepository;
-    private final UserService userService;
     private final BookingService bookingService;
-
-    public BookingController(EventRepository eventRepository, BookingRepository bookingRepository, UserService userService, BookingService bookingService) {
+    private final RegistrationExporter registrationExporter;
+    private final WaitingRoom waitingRoom;
+    private final IdempotencyStore idempotencyStore;
+    private final SeatHolds seatHolds;
+
+    public BookingController(EventRepository eventRepository, BookingService bookingService,
+                             RegistrationExporter registrationExporter, WaitingRoom waitingRoom, IdempotencyStore idempotencyStore,
+                             SeatHolds seatHolds) {
         this.eventRepository = eventRepository;
-        this.bookingRepository = bookingRepository;
-        this.userService = userService;
         this.bookingService = bookingService;
+        this.registrationExporter = registrationExporter;
+        this.waitingRoom = waitingRoom;
+        this.idempotencyStore = idempotencyStore;
+        this.seatHolds = seatHolds;
     }
 
 
@@ -41,39 +56,139 @@ public class BookingController {
     }
 
     @PostMapping("/reserve/{eventId}")
-    public ResponseEntity<?> bookTicket(@PathVariable Long eventId) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        Optional<User> userOpt = userService.findByEmail(email);
-        Optional<Event> eventOpt = eventRepository.findById(eventId);
+    @QueryBudget(10)
+    public ResponseEntity<?> bookTicket(@PathVariable Long eventId,
+                                        @RequestHeader(value = SecurityConfig.ADMISSION_TICKET_HEADER, required = false) String admissionTicket,
+                                        @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        String email = getCurrentUserEmail();
+
+        return idempotencyStore.execute(email, idempotencyKey, "POST /reserve/" + eventId,
+                () -> reserve(eventId, email, admissionTicket));
+    }
 
-        if (userOpt.isEmpty() || eventOpt.isEmpty()) {
-            return ResponseEntity.badRequest().body("User or Event not found");
+    private ResponseEntity<String> reserve(Long eventId, String email, String admissionTicket) {
+        if (waitingRoom.isEnabled()) {
+            if (waitingRoom.isSoldOut(eventId)) {
+                return ResponseEntity.badRequest().body("No seats available.");
+            }
+            if (!waitingRoom.isAdmitted(eventId, admissionTicket, email)) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .body("Please join the waiting room for this event and retry once admitted.");
+            }
         }
 
-        User user = userOpt.get();
-        Event event = eventOpt.get();
+        try {
+            return switch (bookingService.reserveTicket(eventId, email)) {
+                case CONFIRMED -> ResponseEntity.ok("Booking confirmed successfully");
+                case NOT_FOUND -> ResponseEntity.badRequest().body("User or Event not found");
+                case DUPLICATE -> ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body("You have already booked a ticket for this event.");
+                case SOLD_OUT -> ResponseEntity.badRequest().body("No seats available.");
+                case BUSY -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .body("Booking service is busy, please try again.");
+            };
+        } catch (ConcurrencyFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Booking could not be completed, please try again.");
+        }
+    }
+
+    @PostMapping("/holds/{eventId}")
+    @QueryBudget(10)
+    public ResponseEntity<?> holdSeats(@PathVariable Long eventId,
+                                       @RequestParam(defaultValue = "1") int seats,
+                                       @RequestHeader(value = SecurityConfig.ADMISSION_TICKET_HEADER, required = false) String admissionTicket) {
+        String email = getCurrentUserEmail();
+
+        if (waitingRoom.isEnabled()) {
+            if (waitingRoom.isSoldOut(eventId)) {
+                return ResponseEntity.badRequest().body("No seats available.");
+            }
+            if (!waitingRoom.isAdmitted(eventId, admissionTicket, email)) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .body("Please join the waiting room for this event and retry once admitted.");
+            }
+        }
 
-        if (bookingRepository.existsByUserAndEvent(user, event)) {
+        try {
+            SeatHolds.HoldResult result = seatHolds.hold(eventId, email, seats);
+            return switch (result.status()) {
+                case HELD -> ResponseEntity.status(HttpStatus.CREATED).body(result.hold());
+                case INVALID -> ResponseEntity.badRequest().body("Invalid number of seats.");
+                case DUPLICATE -> ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body("You already hold or have booked seats for this event.");
+                case SOLD_OUT -> ResponseEntity.badRequest().body("No seats available.");
+                default -> ResponseEntity.badRequest().body("User or Event not found");
+            };
+        } catch (ConcurrencyFailureException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT)
-                    .body("You have already booked a ticket for this event.");
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Seats could not be held, please try again.");
         }
+    }
+
+    @PostMapping("/holds/{holdId}/confirm")
+    @QueryBudget(10)
+    public ResponseEntity<?> confirmHold(@PathVariable String holdId,
+                                         @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        String email = getCurrentUserEmail();
 
-        if (event.getBookedSeats() >= event.getTotalSeats()) {
-            return ResponseEntity.badRequest().body("No seats available.");
+        return idempotencyStore.execute(email, idempotencyKey, "POST /holds/" + holdId + "/confirm",
+                () -> confirm(holdId, email));
+    }
+
+    private ResponseEntity<String> confirm(String holdId, String email) {
+        try {
+            return switch (seatHolds.confirm(holdId, email)) {
+                case CONFIRMED -> ResponseEntity.ok("Booking confirmed successfully");
+                case FORBIDDEN -> ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body("Access Denied: You do not own this hold");
+                case DUPLICATE -> ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body("You have already booked a ticket for this event.");
+                default -> ResponseEntity.status(HttpStatus.NOT_FOUND).body("Hold not found or expired");
+            };
+        } catch (ConcurrencyFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Booking could not be completed, please try again.");
         }
+    }
 
-        Booking booking = new Booking();
-        booking.setUser(user);
-        booking.setEvent(event);
-        booking.setBookingTime(LocalDateTime.now());
-        booking.setSeatsBooked(1);
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<?> releaseHold(@PathVariable String holdId) {
+        try {
+            return switch (seatHolds.release(holdId, getCurrentUserEmail())) {
+                case RELEASED -> ResponseEntity.ok("Hold released");
+                case FORBIDDEN -> ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body("Access Denied: You do not own this hold");
+                default -> ResponseEntity.status(HttpStatus.NOT_FOUND).body("Hold not found or expired");
+            };
+        } catch (ConcurrencyFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Hold could not be released, please try again.");
+        }
+    }
 
-        event.setBookedSeats(event.getBookedSeats() + 1);
+    @PostMapping("/waiting-room/{eventId}")
+    public ResponseEntity<?> joinWaitingRoom(@PathVariable Long eventId) {
+        return waitingRoom.issue(eventId, getCurrentUserEmail())
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.badRequest().body("No seats available."));
+    }
 
-        bookingRepository.save(booking);
-        eventRepository.save(event);
+    @GetMapping("/waiting-room/{eventId}")
+    public ResponseEntity<?> getWaitingRoomStatus(@PathVariable Long eventId, @RequestParam String ticket) {
+        Optional<AdmissionTicket> status = waitingRoom.status(eventId, ticket, getCurrentUserEmail());
+        if (status.isEmpty()) {
+            return ResponseEntity.badRequest().body("Invalid or expired admission ticket");
+        }
 
-        return ResponseEntity.ok("Booking confirmed successfully");
+        AdmissionTicket admission = status.get();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(admission.getRetryAfterSeconds()))
+                .body(admission);
     }
 
     @GetMapping("/user/mybookings")
@@ -101,36 +216,63 @@ public class BookingController {
 
 
     @DeleteMapping("/cancel/{bookingId}")
-    public ResponseEntity<?> cancelBooking(@PathVariable Long bookingId) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        Optional<User> currentUserOpt = userService.findByEmail(email);
-
-        if (currentUserOpt.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User session not found");
-        }
-
-        User currentUser = currentUserOpt.get();
-
-        return bookingRepository.findById(bookingId).map(booking -> {
+    @QueryBudget(10)
+    public ResponseEntity<?> cancelBooking(@PathVariable Long bookingId,
+                                           @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        String email = getCurrentUserEmail();
 
+        return idempotencyStore.execute(email, idempotencyKey, "DELETE /cancel/" + bookingId,
+                () -> cancel(bookingId, email));
+    }
 
-            if (!booking.getUser().getId().equals(currentUser.getId())) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+    private ResponseEntity<String> cancel(Long bookingId, String email) {
+        try {
+            return switch (bookingService.cancelBooking(bookingId, email)) {
+                case CANCELLED -> ResponseEntity.ok("Booking cancelled successfully");
+                case USER_NOT_FOUND -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User session not found");
+                case FORBIDDEN -> ResponseEntity.status(HttpStatus.FORBIDDEN)
                         .body("Access Denied: You do not own this booking");
-            }
-
-
-            Event event = booking.getEvent();
-            if (event != null) {
-                event.setBookedSeats(Math.max(0, event.getBookedSeats() - 1));
-                eventRepository.save(event);
-            }
+                case NOT_FOUND -> ResponseEntity.status(HttpStatus.NOT_FOUND).body("Booking not found");
+            };
+        } catch (ConcurrencyFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Cancellation could not be completed, please try again.");
+        }
+    }
 
+    @GetMapping("/admin/registrations/page")
+    public ResponseEntity<PagedModel<RegistrationView>> getAdminRegistrationPage(
+            @RequestParam(required = false) Long eventId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        String email = getCurrentUserEmail();
+        int pageSize = Math.min(Math.max(size, 1), 500);
 
-            bookingRepository.delete(booking);
-            return ResponseEntity.ok("Booking cancelled successfully");
+        return ResponseEntity.ok(new PagedModel<>(bookingService.findRegistrations(email, eventId, Math.max(page, 0), pageSize)));
+    }
 
-        }).orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).body("Booking not found"));
+    @GetMapping("/admin/registrations/export")
+    public ResponseEntity<StreamingResponseBody> exportAdminRegistrations(
+            @RequestParam(required = false) Long eventId,
+            @RequestParam(defaultValue = "csv") String format) {
+        String email = getCurrentUserEmail();
+        RegistrationExporter.Format exportFormat = "ndjson".equalsIgnoreCase(format)
+                ? RegistrationExporter.Format.NDJSON
+                : RegistrationExporter.Format.CSV;
+
+        String filename = "registrations" + (eventId != null ? "-" + eventId : "")
+                + (exportFormat == RegistrationExporter.Format.CSV ? ".csv" : ".ndjson");
+        MediaType contentType = exportFormat == RegistrationExporter.Format.CSV
+                ? MediaType.parseMediaType("text/csv;charset=UTF-8")
+                : MediaType.parseMediaType("application/x-ndjson");
+
+        StreamingResponseBody body = out -> registrationExporter.export(email, eventId, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
     }
 
     @GetMapping("/admin/registrations")
@@ -1,27 +1,68 @@
 package com.example.EventEase.Controller;
 
+import com.example.EventEase.Dto.EventFilter;
+import com.example.EventEase.Dto.EventSummary;
+import com.example.EventEase.Dto.ImportReport;
+import com.example.EventEase.Dto.TagQueryResult;
 import com.example.EventEase.Entity.Admin;
 import com.example.EventEase.Entity.Event;
 import com.example.EventEase.Service.AdminService;
+import com.example.EventEase.Service.EventImporter;
+import com.example.EventEase.Service.EventSearchIndex;
 import com.example.EventEase.Service.EventService;
+import com.example.EventEase.Service.EventSnapshots;
+import com.example.EventEase.Service.EventTimeline;
+import com.example.EventEase.Service.SeatFeed;
+import com.example.EventEase.Service.TagIndex;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.core.JacksonException;
+
+import java.io.InputStream;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/events")
 public class EventController {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final EventService eventService;
     private final AdminService adminService;
-
-    public EventController(EventService eventService, AdminService adminService) {
+    private final TagIndex tagIndex;
+    private final EventSearchIndex searchIndex;
+    private final EventImporter eventImporter;
+    private final EventSnapshots eventSnapshots;
+    private final SeatFeed seatFeed;
+    private final EventTimeline eventTimeline;
+
+    public EventController(EventService eventService, AdminService adminService, TagIndex tagIndex, EventSearchIndex searchIndex,
+                           EventImporter eventImporter, EventSnapshots eventSnapshots, SeatFeed seatFeed,
+                           EventTimeline eventTimeline) {
         this.eventService = eventService;
         this.adminService = adminService;
+        this.tagIndex = tagIndex;
+        this.searchIndex = searchIndex;
+        this.eventImporter = eventImporter;
+        this.eventSnapshots = eventSnapshots;
+        this.seatFeed = seatFeed;
+        this.eventTimeline = eventTimeline;
     }
 
     private String getCurrentUserEmail() {
@@ -48,6 +89,22 @@ public class EventController {
         }
     }
 
+    @PostMapping(value = "/admin/import", consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> importEvents(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+        Admin admin = adminService.findByEmail(getCurrentUserEmail())
+                .orElseThrow(() -> new IllegalStateException("Authenticated Admin not found."));
+        EventImporter.Format format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_JSON)
+                ? EventImporter.Format.JSON
+                : EventImporter.Format.CSV;
+
+        try {
+            ImportReport report = eventImporter.importEvents(admin, body, format);
+            return ResponseEntity.status(201).body(report);
+        } catch (IllegalArgumentException | JacksonException e) {
+            return ResponseEntity.badRequest().body("Import rejected: " + e.getMessage());
+        }
+    }
+
     @PutMapping("/admin/{id}")
     public ResponseEntity<Event> updateEvent(@PathVariable Long id, @RequestBody Event updatedEvent) {
         try {
@@ -57,6 +114,10 @@ public class EventController {
                     .orElseGet(() -> ResponseEntity.notFound().build());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(null);
+        } catch (ConcurrencyFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
         }
     }
 
@@ -70,19 +131,107 @@ public class EventController {
 
 
     @GetMapping
-    public ResponseEntity<List<Event>> getAllEvents() {
-        List<Event> events = eventService.findAllEvents();
-        return ResponseEntity.ok(events);
+    public ResponseEntity<?> getAllEvents(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) String venue) {
+
+        EventFilter filter = new EventFilter(status, from, to, tag, venue);
+        boolean paged = cursor != null || limit != null || status != null || from != null
+                || to != null || tag != null || venue != null;
+
+        if (!paged) {
+            return snapshotResponse(eventSnapshots.catalog());
+        }
+
+        try {
+            int pageSize = pageSize(limit);
+            return ResponseEntity.ok(eventService.findEventPage(filter, cursor, pageSize));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/tags")
+    public ResponseEntity<TagQueryResult> getEventsByTags(
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(defaultValue = "all") String match) {
+        TagQueryResult result = tagIndex.query(tags, !"any".equalsIgnoreCase(match));
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<EventSummary>> searchEvents(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<EventSummary> results = searchIndex.search(query, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
+        return ResponseEntity.ok(results);
+    }
+
+    @GetMapping("/upcoming")
+    public ResponseEntity<List<EventSummary>> getUpcomingEvents(@RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(eventTimeline.upcoming(LocalDateTime.now(), pageSize(limit)));
+    }
+
+    @GetMapping("/today")
+    public ResponseEntity<List<EventSummary>> getTodaysEvents(@RequestParam(required = false) Integer limit) {
+        LocalDateTime start = LocalDate.now().atStartOfDay();
+        return ResponseEntity.ok(eventTimeline.between(start, start.plusDays(1), pageSize(limit)));
+    }
+
+    @GetMapping("/this-week")
+    public ResponseEntity<List<EventSummary>> getThisWeeksEvents(@RequestParam(required = false) Integer limit) {
+        LocalDateTime start = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+        return ResponseEntity.ok(eventTimeline.between(start, start.plusWeeks(1), pageSize(limit)));
+    }
+
+    private static int pageSize(Integer limit) {
+        return Math.min(Math.max(limit == null ? DEFAULT_PAGE_SIZE : limit, 1), MAX_PAGE_SIZE);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Event> getEventById(@PathVariable Long id) {
-        Optional<Event> event = eventService.findEventById(id);
+    public ResponseEntity<byte[]> getEventById(@PathVariable Long id) {
+        return eventSnapshots.event(id)
+                .map(this::snapshotResponse)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 
-        return event.map(ResponseEntity::ok)
+    @GetMapping(value = "/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamCatalogSeats() {
+        if (seatFeed.isFull()) {
+            return ResponseEntity.status(503).build();
+        }
+        return ResponseEntity.ok(seatFeed.subscribeAll());
+    }
+
+    @GetMapping(value = "/{id}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEventSeats(@PathVariable Long id) {
+        if (seatFeed.isFull()) {
+            return ResponseEntity.status(503).build();
+        }
+        return seatFeed.subscribe(id)
+                .map(ResponseEntity::ok)
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    // Spring answers a matching If-None-Match with 304 before the body is written.
+    private ResponseEntity<byte[]> snapshotResponse(EventSnapshots.Snapshot snapshot) {
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
+    }
+
+
+    @GetMapping("/admin/cache-stats")
+    public ResponseEntity<Map<String, Map<String, Object>>> getCacheStats() {
+        return ResponseEntity.ok(eventService.cacheStats());
+    }
 
     @GetMapping("/admin/my-events")
     public ResponseEntity<List<Event>> getMyEvents(Authentication authentication) {
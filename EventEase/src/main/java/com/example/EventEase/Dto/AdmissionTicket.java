@@ -0,0 +1,25 @@
+package com.example.EventEase.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdmissionTicket {
+
+    private String ticket;
+
+    private Long eventId;
+
+    private long number;
+
+    private long position;
+
+    private boolean admitted;
+
+    private boolean soldOut;
+
+    private long retryAfterSeconds;
+}
\ No newline at end of file
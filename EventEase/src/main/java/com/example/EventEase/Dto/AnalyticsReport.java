@@ -0,0 +1,42 @@
+package com.example.EventEase.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsReport {
+
+    private int events;
+
+    private int totalSeats;
+
+    private int bookedSeats;
+
+    private double fillRate;
+
+    private long bookings;
+
+    private long cancellations;
+
+    private String granularity;
+
+    private Map<String, Long> bookingsOverTime = new LinkedHashMap<>();
+
+    private Map<String, Long> cancellationsOverTime = new LinkedHashMap<>();
+
+    private Map<String, Long> universities = new LinkedHashMap<>();
+
+    private Map<String, Long> courses = new LinkedHashMap<>();
+
+    private List<EventAnalytics> topEvents = new ArrayList<>();
+
+    private List<EventAnalytics> perEvent = new ArrayList<>();
+}
\ No newline at end of file
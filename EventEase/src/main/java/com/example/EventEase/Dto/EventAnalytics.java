@@ -0,0 +1,33 @@
+package com.example.EventEase.Dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventAnalytics {
+
+    private Long eventId;
+
+    private String name;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime date;
+
+    private String status;
+
+    private int totalSeats;
+
+    private int bookedSeats;
+
+    private double fillRate;
+
+    private long bookings;
+
+    private long cancellations;
+}
\ No newline at end of file
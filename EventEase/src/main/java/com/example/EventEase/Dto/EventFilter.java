@@ -0,0 +1,23 @@
+package com.example.EventEase.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventFilter {
+
+    private String status;
+
+    private LocalDateTime from;
+
+    private LocalDateTime to;
+
+    private String tag;
+
+    private String venue;
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.example.EventEase.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventPage {
+
+    private List<EventSummary> events;
+
+    private String nextCursor;
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.example.EventEase.Dto;
+
+import com.example.EventEase.Entity.Event;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+public class EventSummary {
+
+    private Long id;
+
+    private String name;
+
+    private String about;
+
+    private Set<String> tags;
+
+    private String organizationName;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime date;
+
+    private String venue;
+
+    private Integer totalSeats;
+
+    private Integer bookedSeats;
+
+    private String status;
+
+    public EventSummary(Long id, String name, String about, String organizationName, LocalDateTime date,
+                        String venue, Integer totalSeats, Integer bookedSeats, String status) {
+        this.id = id;
+        this.name = name;
+        this.about = about;
+        this.organizationName = organizationName;
+        this.date = date;
+        this.venue = venue;
+        this.totalSeats = totalSeats;
+        this.bookedSeats = bookedSeats;
+        this.status = status;
+    }
+
+    public static EventSummary from(Event event) {
+        EventSummary summary = new EventSummary(event.getId(), event.getName(), event.getAbout(), event.getOrganizationName(),
+                event.getDate(), event.getVenue(), event.getTotalSeats(), event.getBookedSeats(), event.getStatus());
+        summary.setTags(event.getTags() == null ? Set.of() : new HashSet<>(event.getTags()));
+        return summary;
+    }
+
+    public EventSummary withBookedSeats(int bookedSeats) {
+        EventSummary copy = new EventSummary(id, name, about, organizationName, date, venue, totalSeats, bookedSeats, status);
+        copy.setTags(tags);
+        return copy;
+    }
+
+    public EventSummary withStatus(String status) {
+        EventSummary copy = new EventSummary(id, name, about, organizationName, date, venue, totalSeats, bookedSeats, status);
+        copy.setTags(tags);
+        return copy;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.example.EventEase.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReport {
+
+    private int imported;
+
+    private int rejected;
+
+    private List<String> errors = new ArrayList<>();
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.example.EventEase.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OnboardingReport {
+
+    public enum Outcome { CREATED, DUPLICATE, EXISTING, INVALID }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+
+        private int row;
+
+        private String email;
+
+        private Outcome outcome;
+
+        private Long userId;
+
+        private String message;
+    }
+
+    private int created;
+
+    private int skipped;
+
+    private int rejected;
+
+    private long elapsedMs;
+
+    private List<Row> rows = new ArrayList<>();
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.example.EventEase.Dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrationView {
+
+    private Long bookingId;
+
+    private String userName;
+
+    private String userEmail;
+
+    private String university;
+
+    private Long eventId;
+
+    private String eventName;
+
+    private int seatsBooked;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime bookingTime;
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.example.EventEase.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatHold {
+
+    private String holdId;
+
+    private Long eventId;
+
+    private int seats;
+
+    private Instant expiresAt;
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.EventEase.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentRecord {
+
+    private String name;
+
+    private String email;
+
+    private String password;
+
+    private String university;
+
+    private String course;
+
+    private Boolean currentlyStudyingOrNot;
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.example.EventEase.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagQueryResult {
+
+    private List<Long> eventIds;
+
+    private Map<String, Integer> facets;
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.example.EventEase.Entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Entity
+@Table(name = "analytics_counters", indexes = @Index(name = "idx_analytics_counters_event_id", columnList = "eventId"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsCounter {
+
+    @Id
+    @Column(length = 400)
+    private String id;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false, length = 32)
+    private String metric;
+
+    @Column(nullable = false)
+    private String bucket;
+
+    @Column(nullable = false)
+    private long amount;
+}
\ No newline at end of file
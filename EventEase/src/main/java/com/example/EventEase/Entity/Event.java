@@ -8,13 +8,16 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = @Index(name = "idx_events_date_id", columnList = "date, id"))
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -50,6 +53,12 @@ public class Event {
 
     private Integer bookedSeats = 0;
 
+    // Seats taken by unconfirmed holds; they are unavailable but not sold, so they stay out of bookedSeats.
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer heldSeats = 0;
+
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnore
     private List<Booking> bookings;
@@ -60,4 +69,9 @@ public class Event {
     private Admin admin;
 
     private String status = "UPCOMING";
+
+    @Version
+    @JsonIgnore
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version = 0L;
 }
\ No newline at end of file
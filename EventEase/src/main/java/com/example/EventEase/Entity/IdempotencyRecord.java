@@ -0,0 +1,32 @@
+package com.example.EventEase.Entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_keys_created_at", columnList = "createdAt"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    @Id
+    @Column(length = 64)
+    private String id;
+
+    @Column(nullable = false)
+    private String request;
+
+    @Column(nullable = false)
+    private int status;
+
+    @Column(columnDefinition = "text")
+    private String body;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.example.EventEase.Entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "seat_holds",
+        uniqueConstraints = @UniqueConstraint(name = "uk_seat_holds_event_user", columnNames = {"eventId", "userEmail"}),
+        indexes = @Index(name = "idx_seat_holds_expires_at", columnList = "expiresAt"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatHoldRecord {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private String userEmail;
+
+    @Column(nullable = false)
+    private int seats;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.example.EventEase.Repository;
+
+import com.example.EventEase.Entity.AnalyticsCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+public interface AnalyticsCounterRepository extends JpaRepository<AnalyticsCounter, String> {
+
+    @Transactional
+    @Modifying
+    @Query("delete from AnalyticsCounter c where c.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+
+    // Hourly buckets are ISO-8601 strings, so they compare in time order.
+    @Transactional
+    @Modifying
+    @Query("delete from AnalyticsCounter c where c.metric in :metrics and c.bucket < :before")
+    int deleteBucketsBefore(@Param("metrics") Collection<String> metrics, @Param("before") String before);
+}
\ No newline at end of file
@@ -1,20 +1,57 @@
 package com.example.EventEase.Repository;
 
+import com.example.EventEase.Dto.RegistrationView;
 import com.example.EventEase.Entity.Booking;
 import com.example.EventEase.Entity.Event;
 import com.example.EventEase.Entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
+    String REGISTRATION_VIEW = "select new com.example.EventEase.Dto.RegistrationView(" +
+            "b.id, u.name, u.email, u.university, e.id, e.name, b.seatsBooked, b.bookingTime) " +
+            "from Booking b join b.user u join b.event e join e.admin a ";
+
     List<Booking> findByUserId(Long userId);
 
     boolean existsByUserAndEvent(User user, Event event);
 
+    boolean existsByUserIdAndEventId(Long userId, Long eventId);
+
     Optional<Booking> findByUserIdAndEventId(Long userId, Long eventId);
+
+    @Query(value = REGISTRATION_VIEW + "where a.email = :email",
+            countQuery = "select count(b) from Booking b join b.event e join e.admin a where a.email = :email")
+    Page<RegistrationView> findRegistrationsByAdminEmail(@Param("email") String email, Pageable pageable);
+
+    @Query(value = REGISTRATION_VIEW + "where a.email = :email and e.id = :eventId",
+            countQuery = "select count(b) from Booking b join b.event e join e.admin a where a.email = :email and e.id = :eventId")
+    Page<RegistrationView> findRegistrationsByAdminEmailAndEventId(@Param("email") String email, @Param("eventId") Long eventId, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(REGISTRATION_VIEW + "where a.email = :email order by e.id, b.id")
+    Stream<RegistrationView> streamRegistrationsByAdminEmail(@Param("email") String email);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(REGISTRATION_VIEW + "where a.email = :email and e.id = :eventId order by b.id")
+    Stream<RegistrationView> streamRegistrationsByAdminEmailAndEventId(@Param("email") String email, @Param("eventId") Long eventId);
 }
\ No newline at end of file
@@ -1,13 +1,81 @@
 package com.example.EventEase.Repository;
 
+import com.example.EventEase.Dto.EventSummary;
 import com.example.EventEase.Entity.Event;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventRepositoryCustom {
 
     List<Event> findByAdminEmail(String email);
+
+    @Query("select new com.example.EventEase.Dto.EventSummary(e.id, e.name, e.about, e.organizationName, e.date, e.venue, " +
+            "e.totalSeats, e.bookedSeats, e.status) from Event e where e.admin.email = :email")
+    List<EventSummary> findSummariesByAdminEmail(@Param("email") String email);
+
+    @EntityGraph(attributePaths = {"admin", "tags"})
+    Optional<Event> findWithAdminById(Long id);
+
+    @EntityGraph(attributePaths = {"admin", "tags"})
+    @Query("select e from Event e")
+    List<Event> findAllWithAdmin();
+
+    @Query("select e.id from Event e")
+    List<Long> findAllIds();
+
+    @Modifying
+    @Query("update Event e set e.bookedSeats = :bookedSeats where e.id = :id")
+    int updateBookedSeats(@Param("id") Long id, @Param("bookedSeats") int bookedSeats);
+
+    @Modifying
+    @Query("update Event e set e.bookedSeats = e.bookedSeats + :seats, e.version = e.version + 1 " +
+            "where e.id = :id and e.bookedSeats + e.heldSeats + :seats <= e.totalSeats")
+    int reserveSeats(@Param("id") Long id, @Param("seats") int seats);
+
+    @Modifying
+    @Query("update Event e set e.bookedSeats = e.bookedSeats - :seats, e.version = e.version + 1 " +
+            "where e.id = :id and e.bookedSeats >= :seats")
+    int releaseSeats(@Param("id") Long id, @Param("seats") int seats);
+
+    @Modifying
+    @Query("update Event e set e.bookedSeats = e.bookedSeats + :seats, e.version = e.version + 1 where e.id = :id")
+    int adjustBookedSeats(@Param("id") Long id, @Param("seats") int seats);
+
+    @Modifying
+    @Query("update Event e set e.heldSeats = e.heldSeats + :seats, e.version = e.version + 1 " +
+            "where e.id = :id and e.bookedSeats + e.heldSeats + :seats <= e.totalSeats")
+    int holdSeats(@Param("id") Long id, @Param("seats") int seats);
+
+    @Modifying
+    @Query("update Event e set e.heldSeats = e.heldSeats + :seats, e.version = e.version + 1 where e.id = :id")
+    int addHeldSeats(@Param("id") Long id, @Param("seats") int seats);
+
+    @Modifying
+    @Query("update Event e set e.heldSeats = e.heldSeats - :seats, e.version = e.version + 1 " +
+            "where e.id = :id and e.heldSeats >= :seats")
+    int releaseHeldSeats(@Param("id") Long id, @Param("seats") int seats);
+
+    @Modifying
+    @Query("update Event e set e.heldSeats = e.heldSeats - :seats, e.bookedSeats = e.bookedSeats + :seats, " +
+            "e.version = e.version + 1 where e.id = :id and e.heldSeats >= :seats")
+    int convertHeldSeats(@Param("id") Long id, @Param("seats") int seats);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e.id from Event e where e.id in :ids and e.status in :from")
+    List<Long> lockIdsWithStatus(@Param("ids") Collection<Long> ids, @Param("from") Collection<String> from);
+
+    @Modifying
+    @Query("update Event e set e.status = :status, e.version = e.version + 1 where e.id in :ids and e.status in :from")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("from") Collection<String> from, @Param("status") String status);
 }
\ No newline at end of file
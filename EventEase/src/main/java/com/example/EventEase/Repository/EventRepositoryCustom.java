@@ -0,0 +1,19 @@
+package com.example.EventEase.Repository;
+
+import com.example.EventEase.Dto.EventFilter;
+import com.example.EventEase.Dto.EventSummary;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface EventRepositoryCustom {
+
+    List<EventSummary> findSummariesAfter(EventFilter filter, LocalDateTime afterDate, Long afterId, int limit);
+
+    Map<Long, Set<String>> findTagsByEventIds(Collection<Long> eventIds);
+
+    Map<Long, Set<String>> findAllTags();
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.example.EventEase.Repository;
+
+import com.example.EventEase.Dto.EventFilter;
+import com.example.EventEase.Dto.EventSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class EventRepositoryCustomImpl implements EventRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<EventSummary> findSummariesAfter(EventFilter filter, LocalDateTime afterDate, Long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder(
+                "select new com.example.EventEase.Dto.EventSummary(" +
+                        "e.id, e.name, e.about, e.organizationName, e.date, e.venue, e.totalSeats, e.bookedSeats, e.status) " +
+                        "from Event e where 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+
+        if (afterDate != null && afterId != null) {
+            jpql.append(" and (e.date > :afterDate or (e.date = :afterDate and e.id > :afterId))");
+            params.put("afterDate", afterDate);
+            params.put("afterId", afterId);
+        }
+        if (filter.getStatus() != null) {
+            jpql.append(" and e.status = :status");
+            params.put("status", filter.getStatus());
+        }
+        if (filter.getFrom() != null) {
+            jpql.append(" and e.date >= :from");
+            params.put("from", filter.getFrom());
+        }
+        if (filter.getTo() != null) {
+            jpql.append(" and e.date < :to");
+            params.put("to", filter.getTo());
+        }
+        if (filter.getVenue() != null) {
+            jpql.append(" and lower(e.venue) = lower(:venue)");
+            params.put("venue", filter.getVenue());
+        }
+        if (filter.getTag() != null) {
+            jpql.append(" and :tag member of e.tags");
+            params.put("tag", filter.getTag());
+        }
+        jpql.append(" order by e.date asc, e.id asc");
+
+        TypedQuery<EventSummary> query = entityManager.createQuery(jpql.toString(), EventSummary.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Map<Long, Set<String>> findTagsByEventIds(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        List<Object[]> rows = entityManager.createQuery(
+                        "select e.id, t from Event e join e.tags t where e.id in :ids", Object[].class)
+                .setParameter("ids", eventIds)
+                .getResultList();
+
+        return groupTags(rows);
+    }
+
+    @Override
+    public Map<Long, Set<String>> findAllTags() {
+        List<Object[]> rows = entityManager.createQuery(
+                        "select e.id, t from Event e join e.tags t", Object[].class)
+                .getResultList();
+
+        return groupTags(rows);
+    }
+
+    private static Map<Long, Set<String>> groupTags(List<Object[]> rows) {
+        Map<Long, Set<String>> tags = new HashMap<>();
+        for (Object[] row : rows) {
+            tags.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((String) row[1]);
+        }
+        return tags;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.example.EventEase.Repository;
+
+import com.example.EventEase.Entity.SeatHoldRecord;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SeatHoldRepository extends JpaRepository<SeatHoldRecord, String> {
+
+    boolean existsByEventIdAndUserEmail(Long eventId, String userEmail);
+
+    // Deleting the row is the claim: of a confirm, a release and an expiry racing for the same hold, only one sees 1.
+    @Modifying
+    @Query("delete from SeatHoldRecord h where h.id = :id")
+    int deleteClaim(@Param("id") String id);
+
+    @Modifying
+    @Query("delete from SeatHoldRecord h where h.id in :ids")
+    int deleteAllByIds(@Param("ids") Collection<String> ids);
+
+    // Rows locked by an in-flight confirm are skipped; if that confirm rolls back, the sweep picks the hold up later.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select h from SeatHoldRecord h where h.id in :ids and h.expiresAt <= :now")
+    List<SeatHoldRecord> lockExpiredById(@Param("ids") Collection<String> ids, @Param("now") LocalDateTime now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select h from SeatHoldRecord h where h.expiresAt <= :now order by h.expiresAt")
+    List<SeatHoldRecord> lockExpired(@Param("now") LocalDateTime now, Pageable pageable);
+}
\ No newline at end of file
@@ -2,8 +2,16 @@ package com.example.EventEase.Repository;
 
 import com.example.EventEase.Entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    // Binds the whole set as one array parameter, so the lookup stays a single statement however many emails are passed.
+    @Query(value = "select u.email from users u where u.email = any(cast(:emails as text[]))", nativeQuery = true)
+    List<String> findEmailsIn(@Param("emails") String[] emails);
 }
\ No newline at end of file
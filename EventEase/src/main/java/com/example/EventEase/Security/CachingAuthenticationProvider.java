@@ -0,0 +1,100 @@
+package com.example.EventEase.Security;
+
+import com.example.EventEase.Service.CustomUserDetailsService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+
+@Component
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private static final String DIGEST_ALGORITHM = "HmacSHA256";
+
+    private final DaoAuthenticationProvider delegate;
+    private final Cache<String, VerifiedCredential> verified;
+    private final SecretKeySpec digestKey;
+
+    private record VerifiedCredential(UserDetails user, byte[] digest) {
+    }
+
+    public CachingAuthenticationProvider(CustomUserDetailsService userDetailsService,
+                                         PasswordEncoder passwordEncoder,
+                                         @Value("${eventease.auth-cache.ttl-seconds:60}") long ttlSeconds,
+                                         @Value("${eventease.auth-cache.max-size:10000}") long maxSize) {
+        this.delegate = new DaoAuthenticationProvider(userDetailsService);
+        this.delegate.setPasswordEncoder(passwordEncoder);
+
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.digestKey = new SecretKeySpec(key, DIGEST_ALGORITHM);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String username = authentication.getName();
+        Object credentials = authentication.getCredentials();
+
+        if (username == null || credentials == null) {
+            return delegate.authenticate(authentication);
+        }
+
+        byte[] digest = digest(username, credentials.toString());
+
+        VerifiedCredential cached = verified.getIfPresent(username);
+        if (cached != null && MessageDigest.isEqual(cached.digest(), digest)) {
+            UserDetails user = cached.user();
+            UsernamePasswordAuthenticationToken result =
+                    UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities());
+            result.setDetails(authentication.getDetails());
+            return result;
+        }
+
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.getPrincipal() instanceof UserDetails user) {
+            verified.put(username, new VerifiedCredential(user, digest));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    public void invalidate(String username) {
+        verified.invalidate(username);
+    }
+
+    private byte[] digest(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance(DIGEST_ALGORITHM);
+            mac.init(digestKey);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.EventEase.Security;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -13,6 +14,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.security.web.context.DelegatingSecurityContextRepository;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
@@ -27,9 +29,18 @@ import java.util.List;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    public static final String AUTH_TOKEN_HEADER = "X-Auth-Token";
+    public static final String ADMISSION_TICKET_HEADER = "X-Admission-Ticket";
+
+    private final TokenService tokenService;
+
+    public SecurityConfig(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 
     @Bean
@@ -42,7 +53,8 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(List.of("http://localhost:5173", "http://localhost:3000"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Cache-Control", "Content-Type"));
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Cache-Control", "Content-Type", ADMISSION_TICKET_HEADER, "Idempotency-Key", "If-None-Match"));
+        configuration.setExposedHeaders(List.of(AUTH_TOKEN_HEADER, "Retry-After", "Idempotent-Replayed", "ETag"));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -56,29 +68,48 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
 
-                .httpBasic(Customizer.withDefaults())
-
-                .securityContext(context -> context
-                        .securityContextRepository(new DelegatingSecurityContextRepository(
-                                new RequestAttributeSecurityContextRepository(),
-                                new HttpSessionSecurityContextRepository()
-                        ))
-                )
-                .sessionManagement(session -> session
-                        .sessionCreationPolicy(SessionCreationPolicy.ALWAYS)
-                )
+                .httpBasic(Customizer.withDefaults());
+
+        if (tokenService.isEnabled()) {
+            http
+                    .securityContext(context -> context
+                            .securityContextRepository(new RequestAttributeSecurityContextRepository())
+                    )
+                    .sessionManagement(session -> session
+                            .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                    )
+                    .addFilterBefore(new TokenAuthenticationFilter(tokenService), BasicAuthenticationFilter.class);
+        } else {
+            http
+                    .securityContext(context -> context
+                            .securityContextRepository(new DelegatingSecurityContextRepository(
+                                    new RequestAttributeSecurityContextRepository(),
+                                    new HttpSessionSecurityContextRepository()
+                            ))
+                    )
+                    .sessionManagement(session -> session
+                            .sessionCreationPolicy(SessionCreationPolicy.ALWAYS)
+                    );
+        }
 
+        http
                 .authorizeHttpRequests(authz -> authz
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
-                        .requestMatchers(HttpMethod.GET, "/api/events", "/api/events/{id}").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/events", "/api/events/{id}", "/api/events/tags", "/api/events/search",
+                                "/api/events/upcoming", "/api/events/today", "/api/events/this-week",
+                                "/api/events/seats/stream", "/api/events/{id}/seats/stream").permitAll()
 
                         .requestMatchers("/api/events/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/api/bookings/admin/**").hasRole("ADMIN")
 
                         .requestMatchers("/api/bookings/user/**").hasRole("USER")
                         .requestMatchers("/api/bookings/cancel/**").hasRole("USER")
+                        .requestMatchers("/api/bookings/holds/**").hasRole("USER")
                         .requestMatchers("/api/user/**").hasRole("USER")
 
                         .anyRequest().authenticated()
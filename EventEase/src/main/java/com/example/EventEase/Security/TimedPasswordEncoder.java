@@ -0,0 +1,51 @@
+package com.example.EventEase.Security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Timer encodeTimer;
+    private final Timer matchedTimer;
+    private final Timer mismatchedTimer;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.encodeTimer = Timer.builder("eventease.password.encode")
+                .description("Time spent hashing passwords")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.matchedTimer = verifyTimer(registry, "true");
+        this.mismatchedTimer = verifyTimer(registry, "false");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        boolean matched = delegate.matches(rawPassword, encodedPassword);
+        (matched ? matchedTimer : mismatchedTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return matched;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private static Timer verifyTimer(MeterRegistry registry, String matched) {
+        return Timer.builder("eventease.password.verify")
+                .description("Time spent verifying passwords against their hash")
+                .tag("matched", matched)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
\ No newline at end of file
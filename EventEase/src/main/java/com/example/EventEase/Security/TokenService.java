@@ -0,0 +1,118 @@
+package com.example.EventEase.Security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class TokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenService.class);
+
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final SecretKeySpec key;
+
+    public TokenService(@Value("${eventease.security.stateless:false}") boolean enabled,
+                        @Value("${eventease.security.token-secret:}") String secret,
+                        @Value("${eventease.security.token-ttl-minutes:720}") long ttlMinutes) {
+        this.enabled = enabled;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            if (enabled) {
+                log.warn("No eventease.security.token-secret configured; tokens will only be valid on this node until restart");
+            }
+        } else {
+            keyBytes = Base64.getDecoder().decode(secret);
+        }
+        this.key = new SecretKeySpec(keyBytes, SIGNATURE_ALGORITHM);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String issue(Authentication authentication) {
+        String role = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .findFirst()
+                .orElse("");
+        long expiresAt = Instant.now().plus(ttl).getEpochSecond();
+
+        String payload = encode((authentication.getName() + "\n" + role + "\n" + expiresAt).getBytes(StandardCharsets.UTF_8));
+        return payload + "." + encode(sign(payload));
+    }
+
+    public Optional<Authentication> verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return Optional.empty();
+        }
+
+        String payload = token.substring(0, dot);
+        byte[] signature;
+        String[] claims;
+        try {
+            signature = Base64.getUrlDecoder().decode(token.substring(dot + 1));
+            claims = new String(Base64.getUrlDecoder().decode(payload), StandardCharsets.UTF_8).split("\n");
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        if (claims.length != 3 || !MessageDigest.isEqual(sign(payload), signature)) {
+            return Optional.empty();
+        }
+
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(claims[2]);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        if (Instant.now().getEpochSecond() >= expiresAt) {
+            return Optional.empty();
+        }
+
+        List<GrantedAuthority> authorities = claims[1].isEmpty()
+                ? List.of()
+                : List.of(new SimpleGrantedAuthority(claims[1]));
+        return Optional.of(UsernamePasswordAuthenticationToken.authenticated(claims[0], null, authorities));
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,324 @@
+package com.example.EventEase.Service;
+
+import com.example.EventEase.Dto.AnalyticsReport;
+import com.example.EventEase.Dto.EventAnalytics;
+import com.example.EventEase.Dto.EventSummary;
+import com.example.EventEase.Repository.AnalyticsCounterRepository;
+import com.example.EventEase.Repository.EventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class BookingAnalytics {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingAnalytics.class);
+
+    public enum Metric { BOOKINGS, CANCELLATIONS, BOOKINGS_BY_HOUR, CANCELLATIONS_BY_HOUR, UNIVERSITY, COURSE }
+
+    public enum Granularity { HOUR, DAY }
+
+    private static final String TOTAL = "total";
+    private static final List<String> HOURLY_METRICS = List.of(Metric.BOOKINGS_BY_HOUR.name(), Metric.CANCELLATIONS_BY_HOUR.name());
+
+    private static final String LOAD = "select event_id, metric, bucket, amount from analytics_counters";
+    private static final String UPSERT = "insert into analytics_counters (id, event_id, metric, bucket, amount) values (?, ?, ?, ?, ?) "
+            + "on conflict (id) do update set amount = excluded.amount";
+
+    private static final String SEED_BOOKINGS = "select event_id, count(*) from bookings group by event_id";
+    private static final String SEED_HOURLY = "select event_id, date_trunc('hour', booking_time), count(*) from bookings "
+            + "where booking_time is not null group by event_id, date_trunc('hour', booking_time)";
+    private static final String SEED_BREAKDOWN = "select b.event_id, u.%s, count(*) from bookings b join users u on u.id = b.user_id "
+            + "group by b.event_id, u.%s";
+
+    private record Key(Metric metric, String bucket) {
+    }
+
+    private record Ref(Long eventId, Key key) {
+    }
+
+    private final AnalyticsCounterRepository counterRepository;
+    private final EventRepository eventRepository;
+    private final SeatInventory seatInventory;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean persist;
+    private final int retentionDays;
+
+    private final Map<Long, Map<Key, AtomicLong>> counters = new ConcurrentHashMap<>();
+    private final Set<Ref> dirty = ConcurrentHashMap.newKeySet();
+    private final Set<Long> removed = ConcurrentHashMap.newKeySet();
+
+    public BookingAnalytics(AnalyticsCounterRepository counterRepository, EventRepository eventRepository,
+                            SeatInventory seatInventory, JdbcTemplate jdbcTemplate,
+                            @Value("${eventease.analytics.persist:true}") boolean persist,
+                            @Value("${eventease.analytics.hourly-retention-days:90}") int retentionDays) {
+        this.counterRepository = counterRepository;
+        this.eventRepository = eventRepository;
+        this.seatInventory = seatInventory;
+        this.jdbcTemplate = jdbcTemplate;
+        this.persist = persist;
+        this.retentionDays = retentionDays;
+    }
+
+    // Runs before the web server starts, so no booking can land between the load and the first live update.
+    @PostConstruct
+    public void load() {
+        if (persist) {
+            jdbcTemplate.query(LOAD, rs -> {
+                set(rs.getLong(1), Metric.valueOf(rs.getString(2)), rs.getString(3), rs.getLong(4));
+            });
+        }
+
+        // Bookings and hourly history can only be recovered from the bookings table on first start;
+        // after that the persisted counters also remember bookings that were later cancelled. The seed is
+        // written out straight away, since the next start skips seeding and relies on it being there.
+        if (counters.isEmpty()) {
+            jdbcTemplate.query(SEED_BOOKINGS, rs -> {
+                seed(rs.getLong(1), Metric.BOOKINGS, TOTAL, rs.getLong(2));
+            });
+            jdbcTemplate.query(SEED_HOURLY, rs -> {
+                seed(rs.getLong(1), Metric.BOOKINGS_BY_HOUR, hour(rs.getTimestamp(2)), rs.getLong(3));
+            });
+            persist();
+        }
+
+        // Breakdowns describe current registrations, which the bookings table always has exactly.
+        counters.values().forEach(event -> event.keySet().removeIf(key ->
+                key.metric() == Metric.UNIVERSITY || key.metric() == Metric.COURSE));
+        seedBreakdown(Metric.UNIVERSITY, "university");
+        seedBreakdown(Metric.COURSE, "course");
+
+        log.info("Loaded booking analytics for {} events", counters.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChange(BookingChange change) {
+        Long eventId = change.getEventId();
+        Map<Key, AtomicLong> event = counters.computeIfAbsent(eventId, id -> new ConcurrentHashMap<>());
+        String hour = hour(change.getTime());
+
+        int sign;
+        if (change.getKind() == BookingChange.Kind.CONFIRMED) {
+            add(eventId, event, Metric.BOOKINGS, TOTAL, 1);
+            add(eventId, event, Metric.BOOKINGS_BY_HOUR, hour, 1);
+            sign = 1;
+        } else {
+            add(eventId, event, Metric.CANCELLATIONS, TOTAL, 1);
+            add(eventId, event, Metric.CANCELLATIONS_BY_HOUR, hour, 1);
+            sign = -1;
+        }
+
+        if (change.getUniversity() != null) {
+            add(eventId, event, Metric.UNIVERSITY, change.getUniversity(), sign);
+        }
+        if (change.getCourse() != null) {
+            add(eventId, event, Metric.COURSE, change.getCourse(), sign);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChange change) {
+        if (change.getKind() == CatalogChange.Kind.DELETED && counters.remove(change.getEventId()) != null) {
+            dirty.removeIf(ref -> ref.eventId().equals(change.getEventId()));
+            removed.add(change.getEventId());
+        }
+    }
+
+    public AnalyticsReport report(String adminEmail, Granularity granularity, int days, int top) {
+        AnalyticsReport report = new AnalyticsReport();
+        report.setGranularity(granularity.name());
+        String since = hour(LocalDateTime.now().minusDays(days));
+
+        Map<String, Long> bookingsOverTime = new TreeMap<>();
+        Map<String, Long> cancellationsOverTime = new TreeMap<>();
+        Map<String, Long> universities = new LinkedHashMap<>();
+        Map<String, Long> courses = new LinkedHashMap<>();
+
+        for (EventSummary summary : eventRepository.findSummariesByAdminEmail(adminEmail)) {
+            Map<Key, AtomicLong> event = counters.getOrDefault(summary.getId(), Map.of());
+
+            int total = summary.getTotalSeats() == null ? 0 : summary.getTotalSeats();
+            int booked = seatInventory.booked(summary.getId());
+            EventAnalytics analytics = new EventAnalytics(summary.getId(), summary.getName(), summary.getDate(), summary.getStatus(),
+                    total, booked, fillRate(booked, total), value(event, Metric.BOOKINGS, TOTAL), value(event, Metric.CANCELLATIONS, TOTAL));
+            report.getPerEvent().add(analytics);
+
+            for (Map.Entry<Key, AtomicLong> counter : event.entrySet()) {
+                Key key = counter.getKey();
+                long amount = counter.getValue().get();
+                switch (key.metric()) {
+                    case BOOKINGS_BY_HOUR -> mergeBucket(bookingsOverTime, key.bucket(), since, granularity, amount);
+                    case CANCELLATIONS_BY_HOUR -> mergeBucket(cancellationsOverTime, key.bucket(), since, granularity, amount);
+                    case UNIVERSITY -> universities.merge(key.bucket(), amount, Long::sum);
+                    case COURSE -> courses.merge(key.bucket(), amount, Long::sum);
+                    default -> {
+                    }
+                }
+            }
+
+            report.setTotalSeats(report.getTotalSeats() + total);
+            report.setBookedSeats(report.getBookedSeats() + booked);
+            report.setBookings(report.getBookings() + analytics.getBookings());
+            report.setCancellations(report.getCancellations() + analytics.getCancellations());
+        }
+
+        report.setEvents(report.getPerEvent().size());
+        report.setFillRate(fillRate(report.getBookedSeats(), report.getTotalSeats()));
+        report.setBookingsOverTime(bookingsOverTime);
+        report.setCancellationsOverTime(cancellationsOverTime);
+        report.setUniversities(ranked(universities));
+        report.setCourses(ranked(courses));
+        report.setTopEvents(report.getPerEvent().stream()
+                .sorted(Comparator.comparingInt(EventAnalytics::getBookedSeats).reversed()
+                        .thenComparing(Comparator.comparingDouble(EventAnalytics::getFillRate).reversed()))
+                .limit(Math.max(0, top))
+                .toList());
+        return report;
+    }
+
+    @Scheduled(fixedDelayString = "${eventease.analytics.persist-interval-ms:60000}")
+    public synchronized void persist() {
+        if (!persist) {
+            return;
+        }
+
+        for (Long eventId : List.copyOf(removed)) {
+            try {
+                counterRepository.deleteByEventId(eventId);
+                removed.remove(eventId);
+            } catch (RuntimeException e) {
+                log.warn("Could not delete analytics for event {}", eventId, e);
+            }
+        }
+
+        List<Ref> refs = new ArrayList<>(dirty.size());
+        for (Ref ref : dirty) {
+            if (dirty.remove(ref)) {
+                refs.add(ref);
+            }
+        }
+        if (refs.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(refs.size());
+        for (Ref ref : refs) {
+            AtomicLong value = counters.getOrDefault(ref.eventId(), Map.of()).get(ref.key());
+            if (value != null) {
+                rows.add(new Object[]{id(ref), ref.eventId(), ref.key().metric().name(), ref.key().bucket(), value.get()});
+            }
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT, rows);
+        } catch (RuntimeException e) {
+            dirty.addAll(refs);
+            log.warn("Could not persist {} analytics counters, will retry", rows.size(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${eventease.analytics.prune-interval-ms:3600000}")
+    public void prune() {
+        String cutoff = hour(LocalDateTime.now().minusDays(retentionDays));
+        counters.values().forEach(event -> event.keySet().removeIf(key ->
+                HOURLY_METRICS.contains(key.metric().name()) && key.bucket().compareTo(cutoff) < 0));
+
+        if (persist) {
+            try {
+                counterRepository.deleteBucketsBefore(HOURLY_METRICS, cutoff);
+            } catch (RuntimeException e) {
+                log.warn("Could not prune analytics buckets before {}", cutoff, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        persist();
+    }
+
+    private void seedBreakdown(Metric metric, String column) {
+        jdbcTemplate.query(String.format(SEED_BREAKDOWN, column, column), rs -> {
+            String bucket = rs.getString(2);
+            if (bucket != null) {
+                set(rs.getLong(1), metric, bucket, rs.getLong(3));
+            }
+        });
+    }
+
+    private void set(Long eventId, Metric metric, String bucket, long amount) {
+        counters.computeIfAbsent(eventId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(new Key(metric, bucket), key -> new AtomicLong())
+                .set(amount);
+    }
+
+    private void seed(Long eventId, Metric metric, String bucket, long amount) {
+        set(eventId, metric, bucket, amount);
+        dirty.add(new Ref(eventId, new Key(metric, bucket)));
+    }
+
+    private void add(Long eventId, Map<Key, AtomicLong> event, Metric metric, String bucket, long delta) {
+        Key key = new Key(metric, bucket);
+        event.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(delta);
+        dirty.add(new Ref(eventId, key));
+    }
+
+    private static long value(Map<Key, AtomicLong> event, Metric metric, String bucket) {
+        AtomicLong value = event.get(new Key(metric, bucket));
+        return value == null ? 0 : value.get();
+    }
+
+    private static void mergeBucket(Map<String, Long> series, String hour, String since, Granularity granularity, long amount) {
+        if (hour.compareTo(since) < 0) {
+            return;
+        }
+        String bucket = granularity == Granularity.DAY ? hour.substring(0, 10) : hour;
+        series.merge(bucket, amount, Long::sum);
+    }
+
+    private static Map<String, Long> ranked(Map<String, Long> breakdown) {
+        Map<String, Long> ranked = new LinkedHashMap<>();
+        breakdown.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(entry -> ranked.put(entry.getKey(), entry.getValue()));
+        return ranked;
+    }
+
+    private static double fillRate(int booked, int total) {
+        return total == 0 ? 0 : (double) booked / total;
+    }
+
+    private static String hour(Timestamp time) {
+        return hour(time.toLocalDateTime());
+    }
+
+    // Always yyyy-MM-ddTHH:mm, so buckets sort and compare as plain strings.
+    private static String hour(LocalDateTime time) {
+        LocalDateTime hour = time.truncatedTo(ChronoUnit.HOURS);
+        return String.format("%04d-%02d-%02dT%02d:00", hour.getYear(), hour.getMonthValue(), hour.getDayOfMonth(), hour.getHour());
+    }
+
+    private static String id(Ref ref) {
+        return ref.eventId() + ":" + ref.key().metric().name() + ":" + ref.key().bucket();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.example.EventEase.Service;
+
+import com.example.EventEase.Entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class BookingChange {
+
+    public enum Kind { CONFIRMED, CANCELLED }
+
+    private final Kind kind;
+
+    private final Long eventId;
+
+    private final int seats;
+
+    private final String university;
+
+    private final String course;
+
+    private final LocalDateTime time;
+
+    public static BookingChange confirmed(Long eventId, User user, int seats, LocalDateTime time) {
+        return new BookingChange(Kind.CONFIRMED, eventId, seats, user.getUniversity(), user.getCourse(),
+                time == null ? LocalDateTime.now() : time);
+    }
+
+    public static BookingChange cancelled(Long eventId, User user, int seats) {
+        return new BookingChange(Kind.CANCELLED, eventId, seats, user.getUniversity(), user.getCourse(), LocalDateTime.now());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,430 @@
+package com.example.EventEase.Service;
+
+import com.example.EventEase.Entity.Booking;
+import com.example.EventEase.Entity.Event;
+import com.example.EventEase.Entity.User;
+import com.example.EventEase.Repository.BookingRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+@Component
+@ConditionalOnProperty(name = "eventease.booking.mode", havingValue = "JOURNAL")
+public class BookingJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingJournal.class);
+
+    // seq, eventId, userId, seats, bookingTime (epoch millis), crc32
+    private static final int RECORD_SIZE = 8 + 8 + 8 + 4 + 8 + 4;
+
+    // A single mapping is limited to Integer.MAX_VALUE bytes.
+    private static final int MAX_CAPACITY_MB = Integer.MAX_VALUE / (1024 * 1024);
+
+    public record Entry(long seq, long eventId, long userId, int seats, long bookingTime) {
+    }
+
+    private final BookingRepository bookingRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Path journalFile;
+    private final Path checkpointFile;
+    private final Path deadLetterFile;
+    private final int capacity;
+    private final long syncIntervalMs;
+    private final int batchSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition synced = lock.newCondition();
+    private final Condition appended = lock.newCondition();
+
+    private final ConcurrentLinkedQueue<Entry> unflushed = new ConcurrentLinkedQueue<>();
+    private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private Thread syncer;
+    private volatile boolean running;
+
+    private int position;
+    private long lastSeq;
+    private volatile long syncedSeq;
+    private long flushedSeq;
+
+    public BookingJournal(BookingRepository bookingRepository, EntityManager entityManager,
+                          JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                          @Value("${eventease.journal.dir:data/journal}") String directory,
+                          @Value("${eventease.journal.capacity-mb:64}") int capacityMb,
+                          @Value("${eventease.journal.sync-interval-ms:2}") long syncIntervalMs,
+                          @Value("${eventease.journal.batch-size:500}") int batchSize) {
+        this.bookingRepository = bookingRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.journalFile = Path.of(directory, "bookings.journal");
+        this.checkpointFile = Path.of(directory, "bookings.checkpoint");
+        this.deadLetterFile = Path.of(directory, "bookings.deadletter");
+        if (capacityMb <= 0 || capacityMb > MAX_CAPACITY_MB) {
+            throw new IllegalArgumentException("eventease.journal.capacity-mb must be between 1 and " + MAX_CAPACITY_MB);
+        }
+        this.capacity = (int) ((long) capacityMb * 1024 * 1024 / RECORD_SIZE * RECORD_SIZE);
+        this.syncIntervalMs = syncIntervalMs;
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(journalFile.getParent());
+        channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+
+        long checkpoint = readCheckpoint();
+        List<Entry> replay = recover(checkpoint);
+        if (!replay.isEmpty()) {
+            log.info("Replaying {} journaled bookings after seq {}", replay.size(), checkpoint);
+            for (int from = 0; from < replay.size(); from += batchSize) {
+                List<Entry> batch = replay.subList(from, Math.min(replay.size(), from + batchSize));
+                if (persistIsolating(batch, true) < batch.size()) {
+                    throw new IllegalStateException("Could not replay journaled bookings after seq " + checkpoint);
+                }
+            }
+        }
+        flushedSeq = lastSeq;
+        syncedSeq = lastSeq;
+        writeCheckpoint(lastSeq);
+        position = 0;
+
+        running = true;
+        syncer = new Thread(this::syncLoop, "booking-journal-sync");
+        syncer.setDaemon(true);
+        syncer.start();
+    }
+
+    public boolean markPending(long userId, long eventId) {
+        return pendingKeys.add(key(userId, eventId));
+    }
+
+    public void clearPending(long userId, long eventId) {
+        pendingKeys.remove(key(userId, eventId));
+    }
+
+    public boolean append(long eventId, long userId, int seats, LocalDateTime bookingTime) throws IOException {
+        long seq;
+
+        lock.lock();
+        try {
+            if (position + RECORD_SIZE > capacity && !compact()) {
+                return false;
+            }
+
+            seq = ++lastSeq;
+            long time = bookingTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+            ByteBuffer record = buffer.duplicate();
+            record.position(position);
+            record.putLong(seq).putLong(eventId).putLong(userId).putInt(seats).putLong(time);
+            record.putInt(crc(buffer, position));
+            position += RECORD_SIZE;
+
+            unflushed.add(new Entry(seq, eventId, userId, seats, time));
+            appended.signal();
+
+            while (syncedSeq < seq) {
+                if (!running) {
+                    throw new IOException("Booking journal is closed");
+                }
+                synced.await(100, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for journal sync", e);
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    private void syncLoop() {
+        while (running) {
+            lock.lock();
+            try {
+                while (running && syncedSeq == lastSeq) {
+                    appended.await();
+                }
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                Thread.sleep(syncIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            lock.lock();
+            try {
+                long target = lastSeq;
+                buffer.force();
+                syncedSeq = target;
+                synced.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${eventease.journal.flush-interval-ms:100}")
+    public synchronized void flush() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        for (Entry entry : unflushed) {
+            if (entry.seq() > syncedSeq) {
+                break;
+            }
+            batch.add(entry);
+            if (batch.size() == batchSize) {
+                if (!flushBatch(batch)) {
+                    return;
+                }
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            flushBatch(batch);
+        }
+    }
+
+    private boolean flushBatch(List<Entry> batch) {
+        int done = persistIsolating(batch, false);
+        if (done == 0) {
+            return false;
+        }
+
+        for (int i = 0; i < done; i++) {
+            unflushed.poll();
+        }
+        batch.subList(0, done).forEach(entry -> clearPending(entry.userId(), entry.eventId()));
+
+        long seq = batch.get(done - 1).seq();
+        try {
+            writeCheckpoint(seq);
+        } catch (IOException e) {
+            log.warn("Could not write journal checkpoint {}", seq, e);
+        }
+
+        lock.lock();
+        try {
+            flushedSeq = seq;
+            compact();
+        } finally {
+            lock.unlock();
+        }
+        return done == batch.size();
+    }
+
+    // Returns how many entries from the head of the batch are settled, either written or dead-lettered.
+    // A row that violates a constraint (say its event was deleted before the flush) would otherwise fail the
+    // whole batch on every retry until the journal fills up, so the batch is retried one row at a time and
+    // such rows are set aside. Rows are re-checked for existence so a retry after a partial pass stays idempotent.
+    private int persistIsolating(List<Entry> batch, boolean skipExisting) {
+        try {
+            persist(batch, skipExisting);
+            return batch.size();
+        } catch (RuntimeException e) {
+            if (!isConstraintViolation(e)) {
+                log.warn("Journal flush of {} bookings failed, will retry", batch.size(), e);
+                return 0;
+            }
+            log.warn("Journal flush of {} bookings hit a constraint violation, retrying row by row", batch.size(), e);
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            Entry entry = batch.get(i);
+            try {
+                persist(List.of(entry), true);
+            } catch (RuntimeException e) {
+                if (!isConstraintViolation(e)) {
+                    log.warn("Journal flush of booking {} failed, will retry", entry.seq(), e);
+                    return i;
+                }
+                deadLetter(entry, e);
+            }
+        }
+        return batch.size();
+    }
+
+    private void deadLetter(Entry entry, RuntimeException cause) {
+        log.error("Dead-lettering journaled booking {} (event {}, user {}, {} seats)",
+                entry.seq(), entry.eventId(), entry.userId(), entry.seats(), cause);
+        String line = entry.seq() + "," + entry.eventId() + "," + entry.userId() + "," + entry.seats() + ","
+                + entry.bookingTime() + "\n";
+        try {
+            Files.writeString(deadLetterFile, line, StandardCharsets.US_ASCII, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("Could not write dead letter for journaled booking {}", entry.seq(), e);
+        }
+    }
+
+    private static boolean isConstraintViolation(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof DataIntegrityViolationException || t instanceof ConstraintViolationException) {
+                return true;
+            }
+            if (t instanceof SQLException sql && sql.getSQLState() != null && sql.getSQLState().startsWith("23")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void persist(List<Entry> entries, boolean skipExisting) {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+            Map<Long, Integer> seatDeltas = new LinkedHashMap<>();
+            for (Entry entry : entries) {
+                if (skipExisting && bookingRepository.existsByUserIdAndEventId(entry.userId(), entry.eventId())) {
+                    continue;
+                }
+
+                Booking booking = new Booking();
+                booking.setUser(entityManager.getReference(User.class, entry.userId()));
+                booking.setEvent(entityManager.getReference(Event.class, entry.eventId()));
+                booking.setSeatsBooked(entry.seats());
+                booking.setBookingTime(LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.bookingTime()), ZoneId.systemDefault()));
+                entityManager.persist(booking);
+
+                seatDeltas.merge(entry.eventId(), entry.seats(), Integer::sum);
+            }
+            entityManager.flush();
+            entityManager.clear();
+
+            List<Object[]> updates = new ArrayList<>(seatDeltas.size());
+            seatDeltas.forEach((eventId, seats) -> updates.add(new Object[]{seats, eventId}));
+            jdbcTemplate.batchUpdate("update events set booked_seats = booked_seats + ?, version = version + 1 where id = ?", updates);
+        });
+    }
+
+    private List<Entry> recover(long checkpoint) {
+        List<Entry> entries = new ArrayList<>();
+        lastSeq = checkpoint;
+
+        long previous = -1;
+        for (int offset = 0; offset + RECORD_SIZE <= capacity; offset += RECORD_SIZE) {
+            ByteBuffer record = buffer.duplicate();
+            record.position(offset);
+            long seq = record.getLong();
+            long eventId = record.getLong();
+            long userId = record.getLong();
+            int seats = record.getInt();
+            long time = record.getLong();
+            int storedCrc = record.getInt();
+
+            if (seq <= 0 || storedCrc != crc(buffer, offset) || (previous >= 0 && seq != previous + 1)) {
+                break;
+            }
+            previous = seq;
+
+            if (seq > checkpoint) {
+                entries.add(new Entry(seq, eventId, userId, seats, time));
+                lastSeq = seq;
+            }
+        }
+        return entries;
+    }
+
+    private boolean compact() {
+        if (flushedSeq != lastSeq) {
+            return false;
+        }
+        position = 0;
+        return true;
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return 0;
+        }
+        String value = Files.readString(checkpointFile).trim();
+        return value.isEmpty() ? 0 : Long.parseLong(value);
+    }
+
+    private void writeCheckpoint(long seq) throws IOException {
+        Path tmp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            out.write(ByteBuffer.wrap(Long.toString(seq).getBytes(StandardCharsets.US_ASCII)));
+            out.force(true);
+        }
+        Files.move(tmp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            running = false;
+            appended.signalAll();
+            synced.signalAll();
+            buffer.force();
+            syncedSeq = lastSeq;
+        } finally {
+            lock.unlock();
+        }
+        syncer.interrupt();
+
+        flush();
+        channel.close();
+    }
+
+    private static int crc(MappedByteBuffer buffer, int offset) {
+        CRC32 crc = new CRC32();
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(offset).limit(offset + RECORD_SIZE - 4);
+        crc.update(slice);
+        return (int) crc.getValue();
+    }
+
+    private static String key(long userId, long eventId) {
+        return userId + ":" + eventId;
+    }
+}
\ No newline at end of file
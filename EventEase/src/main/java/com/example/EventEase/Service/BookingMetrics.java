@@ -0,0 +1,57 @@
+package com.example.EventEase.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+@Component
+public class BookingMetrics {
+
+    private final Map<BookingService.ReservationStatus, Counter> reservations = new EnumMap<>(BookingService.ReservationStatus.class);
+    private final Map<BookingService.CancellationStatus, Counter> cancellations = new EnumMap<>(BookingService.CancellationStatus.class);
+    private final Counter conflictRetries;
+    private final Counter conflictFailures;
+
+    public BookingMetrics(MeterRegistry registry) {
+        for (BookingService.ReservationStatus status : BookingService.ReservationStatus.values()) {
+            reservations.put(status, Counter.builder("eventease.reservations")
+                    .description("Reservation attempts by outcome")
+                    .tag("outcome", status.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+        }
+        for (BookingService.CancellationStatus status : BookingService.CancellationStatus.values()) {
+            cancellations.put(status, Counter.builder("eventease.cancellations")
+                    .description("Cancellation attempts by outcome")
+                    .tag("outcome", status.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+        }
+        conflictRetries = Counter.builder("eventease.booking.conflict.retries")
+                .description("Booking transactions retried after an optimistic or pessimistic lock conflict")
+                .register(registry);
+        conflictFailures = Counter.builder("eventease.booking.conflict.failures")
+                .description("Booking transactions that still conflicted after the last retry")
+                .register(registry);
+    }
+
+    public BookingService.ReservationStatus recordReservation(BookingService.ReservationStatus status) {
+        reservations.get(status).increment();
+        return status;
+    }
+
+    public BookingService.CancellationStatus recordCancellation(BookingService.CancellationStatus status) {
+        cancellations.get(status).increment();
+        return status;
+    }
+
+    public void conflictRetried() {
+        conflictRetries.increment();
+    }
+
+    public void conflictFailed() {
+        conflictFailures.increment();
+    }
+}
\ No newline at end of file
@@ -1,34 +1,93 @@
 package com.example.EventEase.Service;
 
+import com.example.EventEase.Dto.RegistrationView;
 import com.example.EventEase.Entity.Booking;
 import com.example.EventEase.Entity.Event;
+import com.example.EventEase.Entity.SeatHoldRecord;
 import com.example.EventEase.Entity.User;
 import com.example.EventEase.Repository.BookingRepository;
 import com.example.EventEase.Repository.EventRepository;
+import com.example.EventEase.Repository.SeatHoldRepository;
 import com.example.EventEase.Repository.UserRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
 
 @Service
 @Transactional
 public class BookingService {
 
+    public enum ReservationMode { INVENTORY, DATABASE, JOURNAL }
+
+    public enum ReservationStatus { CONFIRMED, NOT_FOUND, DUPLICATE, SOLD_OUT, BUSY }
+
+    public enum CancellationStatus { CANCELLED, USER_NOT_FOUND, NOT_FOUND, FORBIDDEN }
+
     private final BookingRepository bookingRepository;
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
+    private final SeatHoldRepository seatHoldRepository;
+    private final SeatInventory seatInventory;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingJournal bookingJournal;
+    private final BookingMetrics bookingMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationMode mode;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
 
-    public BookingService(BookingRepository bookingRepository, EventRepository eventRepository, UserRepository userRepository) {
+    public BookingService(BookingRepository bookingRepository, EventRepository eventRepository, UserRepository userRepository,
+                          SeatHoldRepository seatHoldRepository, SeatInventory seatInventory, TransactionTemplate transactionTemplate,
+                          ObjectProvider<BookingJournal> bookingJournal, BookingMetrics bookingMetrics,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${eventease.booking.mode:INVENTORY}") ReservationMode mode,
+                          @Value("${eventease.booking.max-attempts:3}") int maxAttempts,
+                          @Value("${eventease.booking.retry-backoff-ms:20}") long retryBackoffMs) {
         this.bookingRepository = bookingRepository;
         this.eventRepository = eventRepository;
         this.userRepository = userRepository;
+        this.seatHoldRepository = seatHoldRepository;
+        this.seatInventory = seatInventory;
+        this.transactionTemplate = transactionTemplate;
+        this.bookingJournal = bookingJournal.getIfAvailable();
+        this.bookingMetrics = bookingMetrics;
+        this.eventPublisher = eventPublisher;
+        this.mode = mode;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = retryBackoffMs;
     }
 
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<Booking> bookSeats(Long eventId, String userEmail, int seatsToBook) {
+        return withRetry(() -> transactionTemplate.execute(status -> doBookSeats(eventId, userEmail, seatsToBook)));
+    }
+
+    private Optional<Booking> doBookSeats(Long eventId, String userEmail, int seatsToBook) {
 
         Optional<Event> eventOpt = eventRepository.findById(eventId);
         Optional<User> userOpt = userRepository.findByEmail(userEmail);
@@ -40,10 +99,8 @@ public class BookingService {
         Event event = eventOpt.get();
         User user = userOpt.get();
 
-        int availableSeats = event.getTotalSeats() - event.getBookedSeats();
-
-        if (seatsToBook <= 0 || seatsToBook > availableSeats) {
-            throw new IllegalArgumentException("Requested seats (" + seatsToBook + ") are invalid or exceed available seats (" + availableSeats + ").");
+        if (seatsToBook <= 0 || !claimSeats(eventId, seatsToBook)) {
+            throw new IllegalArgumentException("Requested seats (" + seatsToBook + ") are invalid or exceed available seats (" + seatInventory.available(eventId) + ").");
         }
 
 
@@ -53,12 +110,343 @@ public class BookingService {
         booking.setSeatsBooked(seatsToBook);
 
         Booking savedBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChange.confirmed(eventId, user, seatsToBook, savedBooking.getBookingTime()));
+
+        return Optional.of(savedBooking);
+    }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReservationStatus reserveTicket(Long eventId, String userEmail) {
+        if (mode == ReservationMode.JOURNAL) {
+            return bookingMetrics.recordReservation(journalReserveTicket(eventId, userEmail));
+        }
+        return bookingMetrics.recordReservation(withRetry(() -> transactionTemplate.execute(status -> doReserveTicket(eventId, userEmail))));
+    }
 
-        event.setBookedSeats(event.getBookedSeats() + seatsToBook);
-        eventRepository.save(event);
+    private ReservationStatus doReserveTicket(Long eventId, String userEmail) {
+        Optional<User> userOpt = userRepository.findByEmail(userEmail);
+        if (userOpt.isEmpty()) {
+            return ReservationStatus.NOT_FOUND;
+        }
 
-        return Optional.of(savedBooking);
+        User user = userOpt.get();
+
+        if (bookingRepository.existsByUserIdAndEventId(user.getId(), eventId)) {
+            return ReservationStatus.DUPLICATE;
+        }
+
+        if (!claimSeats(eventId, 1)) {
+            return eventRepository.existsById(eventId) ? ReservationStatus.SOLD_OUT : ReservationStatus.NOT_FOUND;
+        }
+
+        Booking booking = new Booking();
+        booking.setUser(user);
+        booking.setEvent(eventRepository.getReferenceById(eventId));
+        booking.setBookingTime(LocalDateTime.now());
+        booking.setSeatsBooked(1);
+
+        bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChange.confirmed(eventId, user, 1, booking.getBookingTime()));
+        return ReservationStatus.CONFIRMED;
+    }
+
+    // Reads here go through the template: a bare repository call outside a transaction leaves its connection
+    // pinned until reserveTicket returns, so each journaled booking would hold two.
+    private ReservationStatus journalReserveTicket(Long eventId, String userEmail) {
+        Optional<User> userOpt = transactionTemplate.execute(status -> userRepository.findByEmail(userEmail));
+        if (userOpt.isEmpty()) {
+            return ReservationStatus.NOT_FOUND;
+        }
+
+        User user = userOpt.get();
+        Long userId = user.getId();
+
+        if (!bookingJournal.markPending(userId, eventId)) {
+            return ReservationStatus.DUPLICATE;
+        }
+
+        ReservationStatus status = ReservationStatus.BUSY;
+        try {
+            status = appendToJournal(userId, eventId);
+            if (status == ReservationStatus.CONFIRMED) {
+                eventPublisher.publishEvent(BookingChange.confirmed(eventId, user, 1, LocalDateTime.now()));
+            }
+            return status;
+        } finally {
+            if (status != ReservationStatus.CONFIRMED) {
+                bookingJournal.clearPending(userId, eventId);
+            }
+        }
+    }
+
+    private ReservationStatus appendToJournal(Long userId, Long eventId) {
+        if (Boolean.TRUE.equals(transactionTemplate.execute(status -> bookingRepository.existsByUserIdAndEventId(userId, eventId)))) {
+            return ReservationStatus.DUPLICATE;
+        }
+
+        if (!seatInventory.tryReserve(eventId, 1)) {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> eventRepository.existsById(eventId)))
+                    ? ReservationStatus.SOLD_OUT : ReservationStatus.NOT_FOUND;
+        }
+
+        boolean appended = false;
+        try {
+            appended = bookingJournal.append(eventId, userId, 1, LocalDateTime.now());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (!appended) {
+                seatInventory.release(eventId, 1);
+            }
+        }
+        return appended ? ReservationStatus.CONFIRMED : ReservationStatus.BUSY;
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CancellationStatus cancelBooking(Long bookingId, String userEmail) {
+        return bookingMetrics.recordCancellation(withRetry(() -> transactionTemplate.execute(status -> doCancelBooking(bookingId, userEmail))));
+    }
+
+    private CancellationStatus doCancelBooking(Long bookingId, String userEmail) {
+        Optional<User> userOpt = userRepository.findByEmail(userEmail);
+        if (userOpt.isEmpty()) {
+            return CancellationStatus.USER_NOT_FOUND;
+        }
+
+        Optional<Booking> bookingOpt = bookingRepository.findById(bookingId);
+        if (bookingOpt.isEmpty()) {
+            return CancellationStatus.NOT_FOUND;
+        }
+
+        Booking booking = bookingOpt.get();
+        if (!booking.getUser().getId().equals(userOpt.get().getId())) {
+            return CancellationStatus.FORBIDDEN;
+        }
+
+        Long eventId = booking.getEvent().getId();
+        int seats = booking.getSeatsBooked();
+
+        bookingRepository.delete(booking);
+        bookingRepository.flush();
+        releaseSeats(eventId, seats);
+        eventPublisher.publishEvent(BookingChange.cancelled(eventId, booking.getUser(), seats));
+
+        return CancellationStatus.CANCELLED;
+    }
+
+    // The hold row and the held seat count change in one transaction, so a crash never leaves seats held without a
+    // hold that the expiry sweep can find. Held seats are kept out of booked_seats in every mode.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<SeatHoldRecord> holdSeats(Long eventId, String userEmail, int seats, LocalDateTime expiresAt) {
+        if (seats <= 0) {
+            return Optional.empty();
+        }
+        SeatHoldRecord hold = new SeatHoldRecord(UUID.randomUUID().toString(), eventId, userEmail, seats, expiresAt);
+        boolean held = withRetry(() -> transactionTemplate.execute(status -> doHoldSeats(hold)));
+        return held ? Optional.of(hold) : Optional.empty();
+    }
+
+    private boolean doHoldSeats(SeatHoldRecord hold) {
+        Long eventId = hold.getEventId();
+        int seats = hold.getSeats();
+
+        if (mode == ReservationMode.DATABASE) {
+            if (eventRepository.holdSeats(eventId, seats) == 0) {
+                return false;
+            }
+            afterCommit(() -> seatInventory.mirror(eventId, seats));
+        } else {
+            if (!seatInventory.tryHold(eventId, seats)) {
+                return false;
+            }
+            onRollback(() -> seatInventory.releaseHold(eventId, seats));
+            eventRepository.addHeldSeats(eventId, seats);
+        }
+
+        seatHoldRepository.saveAndFlush(hold);
+        return true;
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReservationStatus confirmHeldSeats(SeatHoldRecord hold) {
+        return bookingMetrics.recordReservation(withRetry(() -> transactionTemplate.execute(status -> doConfirmHeldSeats(hold))));
+    }
+
+    private ReservationStatus doConfirmHeldSeats(SeatHoldRecord hold) {
+        if (seatHoldRepository.deleteClaim(hold.getId()) == 0) {
+            return ReservationStatus.NOT_FOUND;
+        }
+
+        Long eventId = hold.getEventId();
+        int seats = hold.getSeats();
+
+        // The hold is gone either way, so a hold that cannot become a booking gives its seats back in the same transaction.
+        Optional<User> userOpt = userRepository.findByEmail(hold.getUserEmail());
+        if (userOpt.isEmpty() || !eventRepository.existsById(eventId)) {
+            releaseHeldSeats(eventId, seats);
+            return ReservationStatus.NOT_FOUND;
+        }
+        User user = userOpt.get();
+        if (bookingRepository.existsByUserIdAndEventId(user.getId(), eventId)) {
+            releaseHeldSeats(eventId, seats);
+            return ReservationStatus.DUPLICATE;
+        }
+
+        if (mode == ReservationMode.INVENTORY) {
+            eventRepository.releaseHeldSeats(eventId, seats);
+        } else {
+            eventRepository.convertHeldSeats(eventId, seats);
+        }
+        if (mode != ReservationMode.DATABASE) {
+            afterCommit(() -> seatInventory.convertHold(eventId, seats));
+        }
+
+        Booking booking = new Booking();
+        booking.setUser(user);
+        booking.setEvent(eventRepository.getReferenceById(eventId));
+        booking.setBookingTime(LocalDateTime.now());
+        booking.setSeatsBooked(seats);
+
+        bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChange.confirmed(eventId, user, seats, booking.getBookingTime()));
+        return ReservationStatus.CONFIRMED;
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean releaseHold(SeatHoldRecord hold) {
+        return withRetry(() -> transactionTemplate.execute(status -> {
+            if (seatHoldRepository.deleteClaim(hold.getId()) == 0) {
+                return false;
+            }
+            releaseHeldSeats(hold.getEventId(), hold.getSeats());
+            return true;
+        }));
+    }
+
+    // Expiry releases whole batches in one transaction: one delete for the holds and one update per event.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int releaseHolds(Collection<String> holdIds, LocalDateTime now) {
+        if (holdIds.isEmpty()) {
+            return 0;
+        }
+        return withRetry(() -> transactionTemplate.execute(status -> doReleaseHolds(seatHoldRepository.lockExpiredById(holdIds, now))));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int releaseExpiredHolds(LocalDateTime now, int limit) {
+        return withRetry(() -> transactionTemplate.execute(status ->
+                doReleaseHolds(seatHoldRepository.lockExpired(now, PageRequest.of(0, limit)))));
+    }
+
+    private int doReleaseHolds(List<SeatHoldRecord> holds) {
+        if (holds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Integer> seatsByEvent = new HashMap<>();
+        List<String> ids = new ArrayList<>(holds.size());
+        for (SeatHoldRecord hold : holds) {
+            ids.add(hold.getId());
+            seatsByEvent.merge(hold.getEventId(), hold.getSeats(), Integer::sum);
+        }
+
+        seatHoldRepository.deleteAllByIds(ids);
+        seatsByEvent.forEach(this::releaseHeldSeats);
+        return holds.size();
+    }
+
+    private void releaseHeldSeats(Long eventId, int seats) {
+        eventRepository.releaseHeldSeats(eventId, seats);
+        if (mode == ReservationMode.DATABASE) {
+            afterCommit(() -> seatInventory.mirror(eventId, -seats));
+        } else {
+            afterCommit(() -> seatInventory.releaseHold(eventId, seats));
+        }
+    }
+
+    private boolean claimSeats(Long eventId, int seats) {
+        if (mode == ReservationMode.DATABASE) {
+            if (eventRepository.reserveSeats(eventId, seats) == 0) {
+                return false;
+            }
+            afterCommit(() -> seatInventory.mirror(eventId, seats));
+            return true;
+        }
+
+        if (!seatInventory.tryReserve(eventId, seats)) {
+            return false;
+        }
+        releaseOnRollback(eventId, seats);
+        if (mode == ReservationMode.JOURNAL) {
+            eventRepository.adjustBookedSeats(eventId, seats);
+        }
+        return true;
+    }
+
+    private void releaseSeats(Long eventId, int seats) {
+        if (mode == ReservationMode.DATABASE) {
+            eventRepository.releaseSeats(eventId, seats);
+            afterCommit(() -> seatInventory.mirror(eventId, -seats));
+            return;
+        }
+        if (mode == ReservationMode.JOURNAL) {
+            eventRepository.releaseSeats(eventId, seats);
+        }
+
+        afterCommit(() -> seatInventory.release(eventId, seats));
+    }
+
+    private void releaseOnRollback(Long eventId, int seats) {
+        onRollback(() -> seatInventory.release(eventId, seats));
+    }
+
+    private void onRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private <T> T withRetry(Supplier<T> attempt) {
+        for (int i = 1; ; i++) {
+            try {
+                return attempt.get();
+            } catch (OptimisticLockingFailureException | PessimisticLockingFailureException e) {
+                if (i >= maxAttempts) {
+                    bookingMetrics.conflictFailed();
+                    throw e;
+                }
+                bookingMetrics.conflictRetried();
+                try {
+                    Thread.sleep(retryBackoffMs * i);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
     }
 
     public List<Booking> findMyBookings(String userEmail) {
@@ -74,4 +462,14 @@ public class BookingService {
     public List<Booking> findAllBookingsByUserId(Long userId) {
         return bookingRepository.findByUserId(userId);
     }
+
+    @Transactional(readOnly = true)
+    public Page<RegistrationView> findRegistrations(String adminEmail, Long eventId, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "bookingTime").and(Sort.by("id")));
+
+        if (eventId != null) {
+            return bookingRepository.findRegistrationsByAdminEmailAndEventId(adminEmail, eventId, pageRequest);
+        }
+        return bookingRepository.findRegistrationsByAdminEmail(adminEmail, pageRequest);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.example.EventEase.Service;
+
+import com.example.EventEase.Entity.Event;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CatalogChange {
+
+    public enum Kind { SAVED, DELETED }
+
+    private final Kind kind;
+
+    private final Long eventId;
+
+    private final Event event;
+
+    public static CatalogChange saved(Event event) {
+        return new CatalogChange(Kind.SAVED, event.getId(), event);
+    }
+
+    public static CatalogChange deleted(Long eventId) {
+        return new CatalogChange(Kind.DELETED, eventId, null);
+    }
+}
\ No newline at end of file
@@ -30,7 +30,6 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
 
-        System.out.println("Entered in cus.");
         List<GrantedAuthority> authorities = new ArrayList<>();
 
         Optional<Admin> admin = adminRepository.findByEmail(email);
@@ -0,0 +1,124 @@
+package com.example.EventEase.Service;
+
+import com.example.EventEase.Entity.Event;
+import com.example.EventEase.Repository.EventRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Cached entities are detached and never modified after they are cached; readers get their own copy carrying the
+// inventory's current seat count, so bookings never touch the cache and nothing can leak into it.
+@Component
+public class EventCache {
+
+    private static final String CATALOG_KEY = "all";
+
+    private final EventRepository eventRepository;
+    private final SeatInventory seatInventory;
+    private final EntityManager entityManager;
+
+    private final Cache<Long, Event> events;
+    private final Cache<String, List<Event>> catalog;
+
+    public EventCache(EventRepository eventRepository, SeatInventory seatInventory, EntityManager entityManager,
+                      @Value("${eventease.cache.events.max-size:10000}") long maxSize,
+                      @Value("${eventease.cache.events.ttl-seconds:60}") long ttlSeconds) {
+        this.eventRepository = eventRepository;
+        this.seatInventory = seatInventory;
+        this.entityManager = entityManager;
+
+        this.events = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.catalog = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<Event> findById(Long id) {
+        Event cached = events.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(withSeats(cached));
+        }
+
+        return eventRepository.findWithAdminById(id).map(event -> {
+            entityManager.detach(event);
+            events.put(id, event);
+            return withSeats(event);
+        });
+    }
+
+    public List<Event> findAll() {
+        List<Event> all = catalog.get(CATALOG_KEY, key -> {
+            List<Event> loaded = eventRepository.findAllWithAdmin();
+            loaded.forEach(event -> {
+                entityManager.detach(event);
+                events.put(event.getId(), event);
+            });
+            return List.copyOf(loaded);
+        });
+        return all.stream().map(this::withSeats).toList();
+    }
+
+    @Order(1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChange change) {
+        events.invalidate(change.getEventId());
+        catalog.invalidateAll();
+    }
+
+    @Order(1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChange(StatusChange change) {
+        events.invalidateAll(change.getEventIds());
+        catalog.invalidateAll();
+    }
+
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        stats.put("events", describe(events.stats(), events.estimatedSize()));
+        stats.put("catalog", describe(catalog.stats(), catalog.estimatedSize()));
+        return stats;
+    }
+
+    private Event withSeats(Event cached) {
+        Event copy = new Event();
+        copy.setId(cached.getId());
+        copy.setName(cached.getName());
+        copy.setAbout(cached.getAbout());
+        copy.setTags(cached.getTags());
+        copy.setOrganizationName(cached.getOrganizationName());
+        copy.setDate(cached.getDate());
+        copy.setVenue(cached.getVenue());
+        copy.setTotalSeats(cached.getTotalSeats());
+        copy.setBookedSeats(seatInventory.booked(cached.getId()));
+        copy.setAdmin(cached.getAdmin());
+        copy.setStatus(cached.getStatus());
+        return copy;
+    }
+
+    private static Map<String, Object> describe(CacheStats stats, long size) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("size", size);
+        description.put("hits", stats.hitCount());
+        description.put("misses", stats.missCount());
+        description.put("hitRate", stats.hitRate());
+        description.put("evictions", stats.evictionCount());
+        return description;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,326 @@
+package com.example.EventEase.Service;
+
+import com.example.EventEase.Dto.ImportReport;
+import com.example.EventEase.Entity.Admin;
+import com.example.EventEase.Entity.Event;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class EventImporter {
+
+    public enum Format { CSV, JSON }
+
+    private static final int ID_BLOCK_SIZE = 6;
+    private static final long FIRST_ID = 16205;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final String INSERT_EVENT = "insert into events (id, name, about, organization_name, date, venue, "
+            + "total_seats, booked_seats, admin_id, status, version) values (?, ?, ?, ?, ?, ?, ?, 0, ?, ?, 0)";
+    private static final String INSERT_TAG = "insert into event_tags (event_id, tag_name) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final SequenceBlocks idBlocks;
+    private final int batchSize;
+
+    public EventImporter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                         ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper,
+                         @Value("${eventease.import.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.idBlocks = new SequenceBlocks(jdbcTemplate, "event_id_seq", FIRST_ID, ID_BLOCK_SIZE);
+        this.batchSize = Math.max(ID_BLOCK_SIZE, batchSize);
+    }
+
+    public ImportReport importEvents(Admin admin, InputStream in, Format format) {
+        ImportReport report = new ImportReport();
+        List<Event> imported = new ArrayList<>();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Event> batch = new ArrayList<>(batchSize);
+            try {
+                int row = 0;
+                for (RowSource rows = open(in, format); rows.hasNext(); ) {
+                    row++;
+                    Event event;
+                    try {
+                        event = rows.next();
+                        validate(event);
+                    } catch (IllegalArgumentException | DateTimeParseException e) {
+                        reject(report, row, e.getMessage());
+                        continue;
+                    } catch (JacksonException e) {
+                        reject(report, row, e.getOriginalMessage());
+                        continue;
+                    }
+
+                    event.setAdmin(admin);
+                    event.setBookedSeats(0);
+                    event.setStatus(event.getStatus() == null ? "UPCOMING" : event.getStatus());
+                    batch.add(event);
+
+                    if (batch.size() == batchSize) {
+                        insert(batch, admin);
+                        imported.addAll(batch);
+                        batch.clear();
+                    }
+                }
+            } catch (IOException | JacksonException e) {
+                throw new IllegalArgumentException("Could not read import: " + e.getMessage(), e);
+            }
+
+            if (!batch.isEmpty()) {
+                insert(batch, admin);
+                imported.addAll(batch);
+            }
+        });
+
+        for (Event event : imported) {
+            eventPublisher.publishEvent(CatalogChange.saved(event));
+        }
+
+        report.setImported(imported.size());
+        return report;
+    }
+
+    private void insert(List<Event> batch, Admin admin) {
+        List<Long> ids = idBlocks.allocate(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).setId(ids.get(i));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_EVENT, batch, batch.size(), (ps, event) -> {
+            ps.setLong(1, event.getId());
+            ps.setString(2, event.getName());
+            ps.setString(3, event.getAbout());
+            ps.setString(4, event.getOrganizationName());
+            ps.setTimestamp(5, Timestamp.valueOf(event.getDate()));
+            ps.setString(6, event.getVenue());
+            ps.setInt(7, event.getTotalSeats());
+            ps.setLong(8, admin.getId());
+            ps.setString(9, event.getStatus());
+        });
+
+        List<Object[]> tags = new ArrayList<>();
+        for (Event event : batch) {
+            if (event.getTags() != null) {
+                event.getTags().forEach(tag -> tags.add(new Object[]{event.getId(), tag}));
+            }
+        }
+        if (!tags.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TAG, tags);
+        }
+    }
+
+    private static void validate(Event event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Empty row");
+        }
+        if (event.getName() == null || event.getName().isBlank()) {
+            throw new IllegalArgumentException("Name is required");
+        }
+        if (event.getVenue() == null || event.getVenue().isBlank()) {
+            throw new IllegalArgumentException("Venue is required");
+        }
+        if (event.getDate() == null) {
+            throw new IllegalArgumentException("Date is required");
+        }
+        if (event.getTotalSeats() == null || event.getTotalSeats() <= 0) {
+            throw new IllegalArgumentException("Total seats must be a positive number.");
+        }
+    }
+
+    private static void reject(ImportReport report, int row, String message) {
+        report.setRejected(report.getRejected() + 1);
+        if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+            report.getErrors().add("Row " + row + ": " + message);
+        }
+    }
+
+    private interface RowSource {
+
+        boolean hasNext() throws IOException;
+
+        Event next() throws IOException;
+    }
+
+    private RowSource open(InputStream in, Format format) throws IOException {
+        if (format == Format.JSON) {
+            MappingIterator<Event> events = objectMapper.readerFor(Event.class).readValues(in);
+            return new RowSource() {
+                @Override
+                public boolean hasNext() {
+                    return events.hasNextValue();
+                }
+
+                @Override
+                public Event next() {
+                    return events.nextValue();
+                }
+            };
+        }
+
+        CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV import is empty");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+        }
+
+        return new RowSource() {
+            private List<String> record = csv.readRecord();
+
+            @Override
+            public boolean hasNext() {
+                return record != null;
+            }
+
+            @Override
+            public Event next() throws IOException {
+                List<String> current = record;
+                record = csv.readRecord();
+                return toEvent(current, columns);
+            }
+        };
+    }
+
+    private static Event toEvent(List<String> record, Map<String, Integer> columns) {
+        Event event = new Event();
+        String name = column(record, columns, "name");
+        String venue = column(record, columns, "venue");
+        String date = column(record, columns, "date");
+        String totalSeats = column(record, columns, "totalseats");
+
+        if (name != null) {
+            event.setName(name);
+        }
+        if (venue != null) {
+            event.setVenue(venue);
+        }
+        if (date != null) {
+            event.setDate(LocalDateTime.parse(date));
+        }
+        if (totalSeats != null) {
+            try {
+                event.setTotalSeats(Integer.parseInt(totalSeats));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Total seats must be a number: " + totalSeats);
+            }
+        }
+        event.setAbout(column(record, columns, "about"));
+        event.setOrganizationName(column(record, columns, "organizationname"));
+
+        String tags = column(record, columns, "tags");
+        if (tags != null) {
+            Set<String> parsed = Arrays.stream(tags.split("[;|]"))
+                    .map(String::trim)
+                    .filter(tag -> !tag.isEmpty())
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            event.setTags(parsed);
+        }
+        return event;
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    static final class CsvReader {
+
+        private final Reader reader;
+
+        CsvReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        List<String> readRecord() throws IOException {
+            List<String> record;
+            do {
+                record = readLine();
+            } while (record != null && record.size() == 1 && record.get(0).isBlank());
+            return record;
+        }
+
+        private List<String> readLine() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean any = false;
+
+            int c;
+            while ((c = reader.read()) != -1) {
+                any = true;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int next = reader.read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (next != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+
+            if (!any) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
\ No newline at end of file
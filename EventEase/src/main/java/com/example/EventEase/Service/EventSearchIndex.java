@@ -0,0 +1,268 @@
+package com.example.EventEase.Service;
+
+import com.example.EventEase.Dto.EventFilter;
+import com.example.EventEase.Dto.EventSummary;
+import com.example.EventEase.Repository.EventRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class EventSearchIndex {
+
+    private static final float NAME_WEIGHT = 3.0f;
+    private static final float ORGANIZATION_WEIGHT = 2.0f;
+    private static final float VENUE_WEIGHT = 1.5f;
+    private static final float ABOUT_WEIGHT = 1.0f;
+
+    private static final float EXACT_MATCH = 1.0f;
+    private static final float PREFIX_MATCH = 0.7f;
+    private static final float FUZZY_MATCH = 0.4f;
+
+    private final EventRepository eventRepository;
+    private final SeatInventory seatInventory;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, EventSummary> documents = new HashMap<>();
+    private final Map<Long, Set<String>> termsByEvent = new HashMap<>();
+    private final TreeMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+
+    public EventSearchIndex(EventRepository eventRepository, SeatInventory seatInventory, TransactionTemplate transactionTemplate) {
+        this.eventRepository = eventRepository;
+        this.seatInventory = seatInventory;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<EventSummary> events = transactionTemplate.execute(status -> {
+            List<EventSummary> all = eventRepository.findSummariesAfter(new EventFilter(), null, null, Integer.MAX_VALUE);
+            Map<Long, Set<String>> tags = eventRepository.findAllTags();
+            all.forEach(event -> event.setTags(tags.getOrDefault(event.getId(), Set.of())));
+            return all;
+        });
+
+        lock.writeLock().lock();
+        try {
+            events.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChange change) {
+        lock.writeLock().lock();
+        try {
+            remove(change.getEventId());
+            if (change.getKind() == CatalogChange.Kind.SAVED) {
+                put(EventSummary.from(change.getEvent()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Status is not indexed, so only the stored summaries change.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChange(StatusChange change) {
+        lock.writeLock().lock();
+        try {
+            change.getEventIds().forEach(eventId ->
+                    documents.computeIfPresent(eventId, (id, event) -> event.withStatus(change.getStatus())));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<EventSummary> search(String query, int limit) {
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Float> scores = new HashMap<>();
+        Map<Long, Integer> matchedTerms = new HashMap<>();
+        List<EventSummary> results = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            int documentCount = Math.max(1, documents.size());
+
+            for (String queryTerm : queryTerms) {
+                Map<Long, Float> best = new HashMap<>();
+
+                collect(best, queryTerm, EXACT_MATCH, documentCount);
+                for (String term : postings.subMap(queryTerm, false, queryTerm + Character.MAX_VALUE, false).keySet()) {
+                    collect(best, term, PREFIX_MATCH, documentCount);
+                }
+                for (String term : fuzzyCandidates(queryTerm)) {
+                    collect(best, term, FUZZY_MATCH, documentCount);
+                }
+
+                best.forEach((eventId, score) -> {
+                    scores.merge(eventId, score, Float::sum);
+                    matchedTerms.merge(eventId, 1, Integer::sum);
+                });
+            }
+
+            scores.keySet().stream()
+                    .sorted(Comparator.<Long>comparingInt(matchedTerms::get).reversed()
+                            .thenComparing(Comparator.<Long, Float>comparing(scores::get).reversed())
+                            .thenComparing(Comparator.naturalOrder()))
+                    .limit(limit)
+                    .forEach(eventId -> results.add(documents.get(eventId)));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return results.stream()
+                .map(event -> event.withBookedSeats(seatInventory.booked(event.getId())))
+                .toList();
+    }
+
+    private void collect(Map<Long, Float> best, String term, float matchWeight, int documentCount) {
+        Map<Long, Float> posting = postings.get(term);
+        if (posting == null) {
+            return;
+        }
+
+        float idf = (float) Math.log(1.0 + (double) documentCount / posting.size());
+        posting.forEach((eventId, fieldWeight) ->
+                best.merge(eventId, fieldWeight * matchWeight * idf, Math::max));
+    }
+
+    private Set<String> fuzzyCandidates(String queryTerm) {
+        if (queryTerm.length() < 4) {
+            return Set.of();
+        }
+
+        int maxEdits = queryTerm.length() < 8 ? 1 : 2;
+        Set<String> candidates = new HashSet<>();
+        for (String trigram : trigrams(queryTerm)) {
+            for (String term : termsByTrigram.getOrDefault(trigram, Set.of())) {
+                if (!term.equals(queryTerm) && Math.abs(term.length() - queryTerm.length()) <= maxEdits
+                        && withinEditDistance(queryTerm, term, maxEdits)) {
+                    candidates.add(term);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private void put(EventSummary event) {
+        Map<String, Float> weights = new HashMap<>();
+        index(weights, event.getName(), NAME_WEIGHT);
+        index(weights, event.getOrganizationName(), ORGANIZATION_WEIGHT);
+        index(weights, event.getVenue(), VENUE_WEIGHT);
+        index(weights, event.getAbout(), ABOUT_WEIGHT);
+
+        weights.forEach((term, weight) -> {
+            Map<Long, Float> posting = postings.computeIfAbsent(term, t -> new HashMap<>());
+            if (posting.isEmpty()) {
+                for (String trigram : trigrams(term)) {
+                    termsByTrigram.computeIfAbsent(trigram, g -> new HashSet<>()).add(term);
+                }
+            }
+            posting.put(event.getId(), weight);
+        });
+
+        documents.put(event.getId(), event);
+        termsByEvent.put(event.getId(), weights.keySet());
+    }
+
+    private void remove(Long eventId) {
+        documents.remove(eventId);
+        Set<String> terms = termsByEvent.remove(eventId);
+        if (terms == null) {
+            return;
+        }
+
+        for (String term : terms) {
+            Map<Long, Float> posting = postings.get(term);
+            posting.remove(eventId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+                for (String trigram : trigrams(term)) {
+                    Set<String> siblings = termsByTrigram.get(trigram);
+                    siblings.remove(term);
+                    if (siblings.isEmpty()) {
+                        termsByTrigram.remove(trigram);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void index(Map<String, Float> weights, String text, float fieldWeight) {
+        for (String term : tokenize(text)) {
+            weights.merge(term, fieldWeight, Math::max);
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() >= 2) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    private static Set<String> trigrams(String term) {
+        String padded = "$" + term + "$";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private static boolean withinEditDistance(String a, String b, int maxEdits) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()] <= maxEdits;
+    }
+}
\ No newline at end of file
@@ -1,22 +1,55 @@
 package com.example.EventEase.Service;
 
+import com.example.EventEase.Dto.EventFilter;
+import com.example.EventEase.Dto.EventPage;
+import com.example.EventEase.Dto.EventSummary;
 import com.example.EventEase.Entity.Admin;
 import com.example.EventEase.Entity.Event;
 import com.example.EventEase.Repository.EventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @Service
 @Transactional
 public class EventService {
 
-    private final EventRepository eventRepository;
+    private static final int STATUS_BATCH_SIZE = 1000;
 
-    public EventService(EventRepository eventRepository) {
+    private final EventRepository eventRepository;
+    private final SeatInventory seatInventory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventCache eventCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+
+    public EventService(EventRepository eventRepository, SeatInventory seatInventory, ApplicationEventPublisher eventPublisher, EventCache eventCache,
+                        TransactionTemplate transactionTemplate,
+                        @Value("${eventease.booking.max-attempts:3}") int maxAttempts,
+                        @Value("${eventease.booking.retry-backoff-ms:20}") long retryBackoffMs) {
         this.eventRepository = eventRepository;
+        this.seatInventory = seatInventory;
+        this.eventPublisher = eventPublisher;
+        this.eventCache = eventCache;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = retryBackoffMs;
     }
 
     public Event createEvent(Event event, Admin admin) {
@@ -27,16 +60,26 @@ public class EventService {
         event.setAdmin(admin);
         event.setBookedSeats(0);
 
-        return eventRepository.save(event);
+        Event savedEvent = eventRepository.save(event);
+        eventPublisher.publishEvent(CatalogChange.saved(savedEvent));
+        return savedEvent;
     }
 
 
+    // Bookings bump the event's version, so an edit that overlaps one is reloaded and applied again.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<Event> updateEvent(Long id, Event updatedEvent) {
+        return withRetry(() -> transactionTemplate.execute(status -> doUpdateEvent(id, updatedEvent)));
+    }
+
+    private Optional<Event> doUpdateEvent(Long id, Event updatedEvent) {
         return eventRepository.findById(id).map(event -> {
 
+            int bookedSeats = Math.max(event.getBookedSeats(), seatInventory.booked(id));
+
             if (updatedEvent.getTotalSeats() != null) {
-                if (updatedEvent.getTotalSeats() < event.getBookedSeats()) {
-                    throw new IllegalArgumentException("New total seats cannot be less than currently booked seats (" + event.getBookedSeats() + ").");
+                if (updatedEvent.getTotalSeats() < bookedSeats) {
+                    throw new IllegalArgumentException("New total seats cannot be less than currently booked seats (" + bookedSeats + ").");
                 }
                 event.setTotalSeats(updatedEvent.getTotalSeats());
             }
@@ -45,27 +88,109 @@ public class EventService {
             event.setAbout(updatedEvent.getAbout());
             event.setTags(updatedEvent.getTags());
             event.setOrganizationName(updatedEvent.getOrganizationName());
+            // The scheduler only moves statuses forward, so an event rescheduled into the future starts over as UPCOMING.
+            if (updatedEvent.getDate() != null && updatedEvent.getDate().isAfter(LocalDateTime.now())
+                    && (EventTimeline.ONGOING.equals(event.getStatus()) || EventTimeline.COMPLETED.equals(event.getStatus()))) {
+                event.setStatus(EventTimeline.UPCOMING);
+            }
             event.setDate(updatedEvent.getDate());
             event.setVenue(updatedEvent.getVenue());
 
-            return eventRepository.save(event);
+            Event savedEvent = eventRepository.save(event);
+            eventPublisher.publishEvent(CatalogChange.saved(savedEvent));
+            return savedEvent;
         });
     }
 
+    private <T> T withRetry(Supplier<T> attempt) {
+        for (int i = 1; ; i++) {
+            try {
+                return attempt.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (i >= maxAttempts) {
+                    throw e;
+                }
+                try {
+                    Thread.sleep(retryBackoffMs * i);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
     public boolean deleteEvent(Long id) {
         if (eventRepository.existsById(id)) {
             eventRepository.deleteById(id);
+            eventPublisher.publishEvent(CatalogChange.deleted(id));
             return true;
         }
         return false;
     }
 
+    // Rows are locked before the update so the change event names exactly the events that moved.
+    public int advanceStatus(List<Long> eventIds, String status) {
+        List<String> movable = List.of(EventTimeline.UPCOMING, EventTimeline.ONGOING);
+        List<Long> advanced = new ArrayList<>(eventIds.size());
+        for (int from = 0; from < eventIds.size(); from += STATUS_BATCH_SIZE) {
+            List<Long> batch = eventIds.subList(from, Math.min(eventIds.size(), from + STATUS_BATCH_SIZE));
+            List<Long> due = eventRepository.lockIdsWithStatus(batch, movable);
+            if (!due.isEmpty()) {
+                eventRepository.updateStatus(due, movable, status);
+                advanced.addAll(due);
+            }
+        }
+
+        if (!advanced.isEmpty()) {
+            eventPublisher.publishEvent(new StatusChange(advanced, status));
+        }
+        return advanced.size();
+    }
+
+    @Transactional(readOnly = true)
     public List<Event> findAllEvents() {
-        return eventRepository.findAll();
+        return eventCache.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    public EventPage findEventPage(EventFilter filter, String cursor, int limit) {
+        LocalDateTime afterDate = null;
+        Long afterId = null;
+
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+                afterDate = LocalDateTime.parse(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+        }
+
+        List<EventSummary> events = eventRepository.findSummariesAfter(filter, afterDate, afterId, limit + 1);
+
+        String nextCursor = null;
+        if (events.size() > limit) {
+            events = events.subList(0, limit);
+            EventSummary last = events.get(limit - 1);
+            nextCursor = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((last.getDate() + "|" + last.getId()).getBytes(StandardCharsets.UTF_8));
+        }
+
+        Map<Long, Set<String>> tags = eventRepository.findTagsByEventIds(events.stream().map(EventSummary::getId).toList());
+        events.forEach(event -> event.setTags(tags.getOrDefault(event.getId(), Set.of())));
+
+        return new EventPage(events, nextCursor);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Event> findEventById(Long id) {
-        return eventRepository.findById(id);
+        return eventCache.findById(id);
+    }
+
+    public Map<String, Map<String, Object>> cacheStats() {
+        return eventCache.stats();
     }
 
     public List<Event> findEventsByAdminEmail(String email) {
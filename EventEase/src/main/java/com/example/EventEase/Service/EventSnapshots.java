@@ -0,0 +1,144 @@
+package com.example.EventEase.Service;
+
+import com.example.EventEase.Entity.Event;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.ObjectMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class EventSnapshots {
+
+    public record Snapshot(byte[] body, String etag, long catalogVersion, long seatVersion, int bookedSeats, long builtAt) {
+    }
+
+    private final EventService eventService;
+    private final SeatInventory seatInventory;
+    private final ObjectMapper objectMapper;
+    private final long maxSeatStalenessNanos;
+    private final long ttlNanos;
+
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final AtomicLong seatVersion = new AtomicLong();
+    private final Cache<Long, Snapshot> details;
+    private volatile Snapshot catalog;
+
+    public EventSnapshots(EventService eventService, SeatInventory seatInventory, ObjectMapper objectMapper,
+                          @Value("${eventease.snapshots.max-seat-staleness-ms:1000}") long maxSeatStalenessMs,
+                          @Value("${eventease.cache.events.max-size:10000}") long maxSize,
+                          @Value("${eventease.cache.events.ttl-seconds:60}") long ttlSeconds) {
+        this.eventService = eventService;
+        this.seatInventory = seatInventory;
+        this.objectMapper = objectMapper;
+        this.maxSeatStalenessNanos = TimeUnit.MILLISECONDS.toNanos(maxSeatStalenessMs);
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.details = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public Snapshot catalog() {
+        Snapshot current = catalog;
+        if (isFresh(current)) {
+            return current;
+        }
+        synchronized (this) {
+            current = catalog;
+            if (isFresh(current)) {
+                return current;
+            }
+            // Versions are read before the data, so a change that lands mid-build leaves the snapshot stale rather than lost.
+            long version = catalogVersion.get();
+            long seats = seatVersion.get();
+            current = encode(eventService.findAllEvents(), version, seats, 0);
+            catalog = current;
+            return current;
+        }
+    }
+
+    public Optional<Snapshot> event(Long id) {
+        Snapshot current = details.getIfPresent(id);
+        if (current != null && isFresh(current, id)) {
+            return Optional.of(current);
+        }
+
+        long version = catalogVersion.get();
+        Optional<Event> event = eventService.findEventById(id);
+        if (event.isEmpty()) {
+            details.invalidate(id);
+            return Optional.empty();
+        }
+
+        Snapshot built = encode(event.get(), version, 0, event.get().getBookedSeats());
+        details.put(id, built);
+        return Optional.of(built);
+    }
+
+    // After EventCache has dropped the entry, so a snapshot rebuilt for the new version cannot read the old event.
+    @Order(2)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChange change) {
+        catalogVersion.incrementAndGet();
+        details.invalidate(change.getEventId());
+    }
+
+    @Order(2)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChange(StatusChange change) {
+        catalogVersion.incrementAndGet();
+        details.invalidateAll(change.getEventIds());
+    }
+
+    @EventListener
+    public void onSeatChange(SeatChange change) {
+        seatVersion.incrementAndGet();
+    }
+
+    private boolean isFresh(Snapshot snapshot) {
+        if (snapshot == null || snapshot.catalogVersion() != catalogVersion.get()) {
+            return false;
+        }
+        long age = System.nanoTime() - snapshot.builtAt();
+        if (age >= ttlNanos) {
+            return false;
+        }
+        return snapshot.seatVersion() == seatVersion.get() || age < maxSeatStalenessNanos;
+    }
+
+    private boolean isFresh(Snapshot snapshot, Long id) {
+        if (snapshot.catalogVersion() != catalogVersion.get()) {
+            return false;
+        }
+        return snapshot.bookedSeats() == seatInventory.booked(id)
+                || System.nanoTime() - snapshot.builtAt() < maxSeatStalenessNanos;
+    }
+
+    private Snapshot encode(Object value, long version, long seats, int bookedSeats) {
+        byte[] body = objectMapper.writeValueAsBytes(value);
+        return new Snapshot(body, etag(body), version, seats, bookedSeats, System.nanoTime());
+    }
+
+    // Strong validator derived from the bytes themselves, so a rebuild that produces the same body keeps the same ETag.
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.example.EventEase.Service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class EventStatusScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(EventStatusScheduler.class);
+
+    private final EventTimeline eventTimeline;
+    private final EventService eventService;
+    private final Duration ongoingFor;
+
+    public EventStatusScheduler(EventTimeline eventTimeline, EventService eventService,
+                                @Value("${eventease.events.ongoing-hours:4}") long ongoingHours) {
+        this.eventTimeline = eventTimeline;
+        this.eventService = eventService;
+        this.ongoingFor = Duration.ofHours(ongoingHours);
+    }
+
+    // Events only store a start time, so one counts as ONGOING for eventease.events.ongoing-hours after it starts.
+    @Scheduled(fixedDelayString = "${eventease.events.status-interval-ms:60000}")
+    public void advance() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, List<Long>> due = eventTimeline.dueTransitions(now, now.minus(ongoingFor));
+
+        due.forEach((status, eventIds) -> {
+            try {
+                int updated = eventService.advanceStatus(eventIds, status);
+                log.info("Moved {} events to {}", updated, status);
+            } catch (RuntimeException e) {
+                log.warn("Could not move {} events to {}, will retry", eventIds.size(), status, e);
+            }
+        });
+
+        LocalDateTime weekStart = now.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+        int evicted = eventTimeline.evictFinishedBefore(weekStart);
+        if (evicted > 0) {
+            log.debug("Evicted {} finished events from the timeline, {} remain", evicted, eventTimeline.size());
+        }
+    }
+}
\ No newline at end of file
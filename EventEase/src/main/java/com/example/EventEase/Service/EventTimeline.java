@@ -0,0 +1,149 @@
+package com.example.EventEase.Service;
+
+import com.example.EventEase.Dto.EventFilter;
+import com.example.EventEase.Dto.EventSummary;
+import com.example.EventEase.Repository.EventRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Component
+public class EventTimeline {
+
+    public static final String UPCOMING = "UPCOMING";
+    public static final String ONGOING = "ONGOING";
+    public static final String COMPLETED = "COMPLETED";
+
+    private record Key(LocalDateTime date, Long id) {
+
+        static final Comparator<Key> ORDER = Comparator.comparing(Key::date).thenComparing(Key::id);
+    }
+
+    private final EventRepository eventRepository;
+    private final SeatInventory seatInventory;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentSkipListMap<Key, EventSummary> byDate = new ConcurrentSkipListMap<>(Key.ORDER);
+    private final Map<Long, Key> keys = new ConcurrentHashMap<>();
+
+    public EventTimeline(EventRepository eventRepository, SeatInventory seatInventory, TransactionTemplate transactionTemplate) {
+        this.eventRepository = eventRepository;
+        this.seatInventory = seatInventory;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<EventSummary> events = transactionTemplate.execute(status -> {
+            List<EventSummary> all = eventRepository.findSummariesAfter(new EventFilter(), null, null, Integer.MAX_VALUE);
+            Map<Long, Set<String>> tags = eventRepository.findAllTags();
+            all.forEach(event -> event.setTags(tags.getOrDefault(event.getId(), Set.of())));
+            return all;
+        });
+        events.forEach(this::put);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChange change) {
+        if (change.getKind() == CatalogChange.Kind.SAVED) {
+            put(EventSummary.from(change.getEvent()));
+        } else {
+            remove(change.getEventId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onStatusChange(StatusChange change) {
+        for (Long eventId : change.getEventIds()) {
+            Key key = keys.get(eventId);
+            if (key != null) {
+                byDate.computeIfPresent(key, (k, event) -> event.withStatus(change.getStatus()));
+            }
+        }
+    }
+
+    public List<EventSummary> upcoming(LocalDateTime now, int limit) {
+        return collect(byDate.tailMap(new Key(now, Long.MAX_VALUE), false), limit);
+    }
+
+    // Events dated in [from, to).
+    public List<EventSummary> between(LocalDateTime from, LocalDateTime to, int limit) {
+        if (!from.isBefore(to)) {
+            return List.of();
+        }
+        return collect(byDate.subMap(new Key(from, Long.MIN_VALUE), true, new Key(to, Long.MIN_VALUE), false), limit);
+    }
+
+    // Only events still marked UPCOMING or ONGOING move; any other status was set deliberately and is left alone.
+    public Map<String, List<Long>> dueTransitions(LocalDateTime now, LocalDateTime completedBefore) {
+        Map<String, List<Long>> due = new LinkedHashMap<>();
+        for (Map.Entry<Key, EventSummary> entry : byDate.headMap(new Key(now, Long.MAX_VALUE), true).entrySet()) {
+            String status = entry.getValue().getStatus();
+            if (!UPCOMING.equals(status) && !ONGOING.equals(status)) {
+                continue;
+            }
+
+            String target = entry.getKey().date().isAfter(completedBefore) ? ONGOING : COMPLETED;
+            if (!target.equals(status)) {
+                due.computeIfAbsent(target, s -> new ArrayList<>()).add(entry.getKey().id());
+            }
+        }
+        return due;
+    }
+
+    // Finished events before the cutoff can never match a window query again, so the scan in dueTransitions stays short.
+    public int evictFinishedBefore(LocalDateTime cutoff) {
+        int evicted = 0;
+        for (Map.Entry<Key, EventSummary> entry : byDate.headMap(new Key(cutoff, Long.MIN_VALUE), false).entrySet()) {
+            String status = entry.getValue().getStatus();
+            if (!UPCOMING.equals(status) && !ONGOING.equals(status) && remove(entry.getKey().id())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    private List<EventSummary> collect(Map<Key, EventSummary> range, int limit) {
+        List<EventSummary> results = new ArrayList<>(Math.min(limit, 64));
+        for (EventSummary event : range.values()) {
+            if (results.size() >= limit) {
+                break;
+            }
+            results.add(event.withBookedSeats(seatInventory.booked(event.getId())));
+        }
+        return results;
+    }
+
+    private synchronized void put(EventSummary event) {
+        if (event.getId() == null || event.getDate() == null) {
+            return;
+        }
+        Key key = new Key(event.getDate(), event.getId());
+        Key previous = keys.put(event.getId(), key);
+        if (previous != null && !previous.equals(key)) {
+            byDate.remove(previous);
+        }
+        byDate.put(key, event);
+    }
+
+    private synchronized boolean remove(Long eventId) {
+        Key key = keys.remove(eventId);
+        return key != null && byDate.remove(key) != null;
+    }
+}
\ No newline at end of file
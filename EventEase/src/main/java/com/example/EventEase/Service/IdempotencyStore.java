@@ -0,0 +1,165 @@
+package com.example.EventEase.Service;
+
+import com.example.EventEase.Entity.IdempotencyRecord;
+import com.example.EventEase.Repository.IdempotencyRecordRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Component
+public class IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository repository;
+    private final boolean persist;
+    private final Duration ttl;
+
+    private final Cache<String, StoredResponse> responses;
+
+    private record StoredResponse(String request, int status, String body) {
+
+        static final StoredResponse IN_FLIGHT = new StoredResponse(null, 0, null);
+
+        boolean inFlight() {
+            return this == IN_FLIGHT;
+        }
+    }
+
+    public IdempotencyStore(IdempotencyRecordRepository repository,
+                            @Value("${eventease.idempotency.persist:false}") boolean persist,
+                            @Value("${eventease.idempotency.ttl-seconds:86400}") long ttlSeconds,
+                            @Value("${eventease.idempotency.max-size:100000}") long maxSize) {
+        this.repository = repository;
+        this.persist = persist;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public ResponseEntity<String> execute(String username, String key, String request, Supplier<ResponseEntity<String>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest().body(IDEMPOTENCY_KEY_HEADER + " must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String id = fingerprint(username, key);
+
+        StoredResponse existing = responses.asMap().putIfAbsent(id, StoredResponse.IN_FLIGHT);
+        if (existing == null && persist) {
+            existing = load(id).orElse(null);
+            if (existing != null) {
+                responses.put(id, existing);
+            }
+        }
+        if (existing != null) {
+            return replay(existing, request);
+        }
+
+        ResponseEntity<String> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException | Error e) {
+            responses.invalidate(id);
+            throw e;
+        }
+
+        if (isTransient(response)) {
+            responses.invalidate(id);
+            return response;
+        }
+
+        StoredResponse stored = new StoredResponse(request, response.getStatusCode().value(), response.getBody());
+        responses.put(id, stored);
+        if (persist) {
+            save(id, stored);
+        }
+        return response;
+    }
+
+    @Scheduled(fixedDelayString = "${eventease.idempotency.cleanup-interval-ms:3600000}")
+    public void purgeExpired() {
+        if (persist) {
+            repository.deleteCreatedBefore(LocalDateTime.now().minus(ttl));
+        }
+    }
+
+    private ResponseEntity<String> replay(StoredResponse stored, String request) {
+        if (stored.inFlight()) {
+            return ResponseEntity.status(HttpStatus.TOO_EARLY)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed");
+        }
+        if (!stored.request().equals(request)) {
+            return ResponseEntity.status(422)
+                    .body(IDEMPOTENCY_KEY_HEADER + " was already used for a different request");
+        }
+
+        return ResponseEntity.status(stored.status())
+                .header(REPLAYED_HEADER, "true")
+                .body(stored.body());
+    }
+
+    // A response that asks the client to retry must not be replayed, or the retry could never succeed.
+    private static boolean isTransient(ResponseEntity<String> response) {
+        return response.getStatusCode().is5xxServerError()
+                || response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)
+                || response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER) != null;
+    }
+
+    private Optional<StoredResponse> load(String id) {
+        try {
+            return repository.findById(id)
+                    .filter(record -> record.getCreatedAt().isAfter(LocalDateTime.now().minus(ttl)))
+                    .map(record -> new StoredResponse(record.getRequest(), record.getStatus(), record.getBody()));
+        } catch (RuntimeException e) {
+            log.warn("Could not load idempotency record", e);
+            return Optional.empty();
+        }
+    }
+
+    private void save(String id, StoredResponse stored) {
+        try {
+            repository.save(new IdempotencyRecord(id, stored.request(), stored.status(), stored.body(), LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("Could not persist idempotency record", e);
+        }
+    }
+
+    private static String fingerprint(String username, String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(username.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.example.EventEase.Service;
+
+import com.example.EventEase.Dto.RegistrationView;
+import com.example.EventEase.Repository.BookingRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class RegistrationExporter {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final int FLUSH_EVERY = 256;
+
+    private static final String CSV_HEADER = "bookingId,userName,userEmail,university,eventId,eventName,seatsBooked,bookingTime";
+
+    private final BookingRepository bookingRepository;
+    private final ObjectMapper objectMapper;
+
+    public RegistrationExporter(BookingRepository bookingRepository, ObjectMapper objectMapper) {
+        this.bookingRepository = bookingRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public void export(String adminEmail, Long eventId, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        writer.flush();
+
+        try (Stream<RegistrationView> rows = eventId != null
+                ? bookingRepository.streamRegistrationsByAdminEmailAndEventId(adminEmail, eventId)
+                : bookingRepository.streamRegistrationsByAdminEmail(adminEmail)) {
+
+            int written = 0;
+            Iterator<RegistrationView> it = rows.iterator();
+            while (it.hasNext()) {
+                RegistrationView row = it.next();
+                writer.write(format == Format.CSV ? toCsv(row) : objectMapper.writeValueAsString(row));
+                writer.write('\n');
+
+                if (++written % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+    }
+
+    private static String toCsv(RegistrationView row) {
+        return String.join(",",
+                String.valueOf(row.getBookingId()),
+                csv(row.getUserName()),
+                csv(row.getUserEmail()),
+                csv(row.getUniversity()),
+                String.valueOf(row.getEventId()),
+                csv(row.getEventName()),
+                String.valueOf(row.getSeatsBooked()),
+                row.getBookingTime() == null ? "" : row.getBookingTime().toString());
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
\ No newline at end of file
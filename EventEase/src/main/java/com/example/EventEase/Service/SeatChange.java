@@ -0,0 +1,15 @@
+package com.example.EventEase.Service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SeatChange {
+
+    private final Long eventId;
+
+    private final int totalSeats;
+
+    private final int bookedSeats;
+}
\ No newline at end of file
@@ -0,0 +1,219 @@
+package com.example.EventEase.Service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class SeatFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatFeed.class);
+
+    private static final String SEATS_EVENT = "seats";
+
+    private final SeatInventory seatInventory;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMs;
+    private final int maxSubscribers;
+    private final long windowMs;
+    private final long heartbeatMs;
+
+    private final Map<Long, Set<SseEmitter>> eventSubscribers = new ConcurrentHashMap<>();
+    private final Set<SseEmitter> catalogSubscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    // Events whose seats changed since the last window. Counts are read when the window closes, so a
+    // transaction that commits late cannot overwrite a newer count with the one it saw.
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    // Sends block on slow clients, so they run on their own thread rather than the shared scheduler
+    // that also drives write-behind, journal flushes and the other housekeeping jobs.
+    private ScheduledExecutorService broadcaster;
+
+    public SeatFeed(SeatInventory seatInventory, ObjectMapper objectMapper, MeterRegistry registry,
+                    @Value("${eventease.seat-feed.timeout-ms:1800000}") long timeoutMs,
+                    @Value("${eventease.seat-feed.max-subscribers:20000}") int maxSubscribers,
+                    @Value("${eventease.seat-feed.window-ms:250}") long windowMs,
+                    @Value("${eventease.seat-feed.heartbeat-ms:15000}") long heartbeatMs) {
+        this.seatInventory = seatInventory;
+        this.objectMapper = objectMapper;
+        this.timeoutMs = timeoutMs;
+        this.maxSubscribers = maxSubscribers;
+        this.windowMs = windowMs;
+        this.heartbeatMs = heartbeatMs;
+
+        Gauge.builder("eventease.seat.feed.subscribers", subscribers, AtomicInteger::get)
+                .description("Open seat availability SSE connections")
+                .register(registry);
+    }
+
+    @PostConstruct
+    public void start() {
+        broadcaster = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "seat-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        broadcaster.scheduleWithFixedDelay(() -> guarded(this::publish), windowMs, windowMs, TimeUnit.MILLISECONDS);
+        broadcaster.scheduleWithFixedDelay(() -> guarded(this::heartbeat), heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        broadcaster.shutdownNow();
+    }
+
+    public boolean isFull() {
+        return subscribers.get() >= maxSubscribers;
+    }
+
+    public Optional<SseEmitter> subscribe(Long eventId) {
+        Optional<SeatChange> current = seatInventory.current(eventId);
+        if (current.isEmpty()) {
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Set<SseEmitter> emitters = eventSubscribers.compute(eventId, (id, existing) -> {
+            Set<SseEmitter> set = existing != null ? existing : ConcurrentHashMap.newKeySet();
+            register(set, emitter);
+            return set;
+        });
+        send(emitters, emitter, objectMapper.writeValueAsString(current.get()));
+        return Optional.of(emitter);
+    }
+
+    public SseEmitter subscribeAll() {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        register(catalogSubscribers, emitter);
+        send(catalogSubscribers, emitter, objectMapper.writeValueAsString(seatInventory.snapshot()));
+        return emitter;
+    }
+
+    // Runs after the reservation commits; a rolled-back reservation never reaches subscribers.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatChange(SeatChange change) {
+        if (!catalogSubscribers.isEmpty() || eventSubscribers.containsKey(change.getEventId())) {
+            pending.add(change.getEventId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChange change) {
+        if (change.getKind() != CatalogChange.Kind.DELETED) {
+            return;
+        }
+        pending.remove(change.getEventId());
+        Set<SseEmitter> emitters = eventSubscribers.remove(change.getEventId());
+        if (emitters != null) {
+            emitters.forEach(SseEmitter::complete);
+        }
+    }
+
+    void publish() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<SeatChange> changes = new ArrayList<>(pending.size());
+        for (Long eventId : pending) {
+            if (pending.remove(eventId)) {
+                seatInventory.current(eventId).ifPresent(changes::add);
+            }
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        // Each payload is encoded once and the same string is written to every subscriber.
+        for (SeatChange change : changes) {
+            Set<SseEmitter> emitters = eventSubscribers.get(change.getEventId());
+            if (emitters != null && !emitters.isEmpty()) {
+                broadcast(emitters, objectMapper.writeValueAsString(change));
+            }
+        }
+        if (!catalogSubscribers.isEmpty()) {
+            broadcast(catalogSubscribers, objectMapper.writeValueAsString(changes));
+        }
+    }
+
+    void heartbeat() {
+        eventSubscribers.values().forEach(emitters -> emitters.forEach(emitter -> ping(emitters, emitter)));
+        catalogSubscribers.forEach(emitter -> ping(catalogSubscribers, emitter));
+        eventSubscribers.keySet().forEach(eventId ->
+                eventSubscribers.computeIfPresent(eventId, (id, emitters) -> emitters.isEmpty() ? null : emitters));
+    }
+
+    // An exception escaping a fixed-delay task would cancel every later run.
+    private void guarded(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.warn("Seat feed broadcast failed", e);
+        }
+    }
+
+    private void register(Set<SseEmitter> emitters, SseEmitter emitter) {
+        emitters.add(emitter);
+        subscribers.incrementAndGet();
+        Runnable remove = () -> {
+            if (emitters.remove(emitter)) {
+                subscribers.decrementAndGet();
+            }
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+    }
+
+    private void broadcast(Set<SseEmitter> emitters, String payload) {
+        for (SseEmitter emitter : emitters) {
+            send(emitters, emitter, payload);
+        }
+    }
+
+    private void send(Set<SseEmitter> emitters, SseEmitter emitter, String payload) {
+        try {
+            emitter.send(SseEmitter.event().name(SEATS_EVENT).data(payload, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            drop(emitters, emitter, e);
+        }
+    }
+
+    private void ping(Set<SseEmitter> emitters, SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().comment("ping"));
+        } catch (IOException | IllegalStateException e) {
+            drop(emitters, emitter, e);
+        }
+    }
+
+    private void drop(Set<SseEmitter> emitters, SseEmitter emitter, Exception cause) {
+        log.debug("Dropping seat feed subscriber", cause);
+        if (emitters.remove(emitter)) {
+            subscribers.decrementAndGet();
+        }
+        emitter.completeWithError(cause);
+    }
+}
\ No newline at end of file
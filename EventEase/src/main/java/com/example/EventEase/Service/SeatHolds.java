@@ -0,0 +1,230 @@
+package com.example.EventEase.Service;
+
+import com.example.EventEase.Dto.SeatHold;
+import com.example.EventEase.Entity.SeatHoldRecord;
+import com.example.EventEase.Entity.User;
+import com.example.EventEase.Repository.BookingRepository;
+import com.example.EventEase.Repository.SeatHoldRepository;
+import com.example.EventEase.Repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Holds live in the seat_holds table, so they survive a restart and can be confirmed or released on any node.
+// Each node puts the holds it creates on a local timing wheel and releases them in batches as they come due;
+// a slow sweep of the table releases anything whose node went away before its wheel fired.
+@Component
+public class SeatHolds {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatHolds.class);
+
+    private static final int WHEEL_SIZE = 512;
+
+    public enum HoldStatus { HELD, CONFIRMED, RELEASED, NOT_FOUND, FORBIDDEN, DUPLICATE, SOLD_OUT, INVALID }
+
+    public record HoldResult(HoldStatus status, SeatHold hold) {
+
+        static HoldResult of(HoldStatus status) {
+            return new HoldResult(status, null);
+        }
+    }
+
+    private final BookingService bookingService;
+    private final SeatInventory seatInventory;
+    private final UserRepository userRepository;
+    private final BookingRepository bookingRepository;
+    private final SeatHoldRepository seatHoldRepository;
+    private final Duration ttl;
+    private final int maxSeats;
+    private final long tickMs;
+    private final long sweepIntervalMs;
+    private final int batchSize;
+    private final Counter expired;
+
+    // The wheel runs on milliseconds since startup so deadlines never depend on the wall clock.
+    private final long baseNanos = System.nanoTime();
+    private final TimingWheel<String> wheel;
+
+    private volatile boolean running;
+    private Thread driver;
+
+    public SeatHolds(BookingService bookingService, SeatInventory seatInventory, UserRepository userRepository,
+                     BookingRepository bookingRepository, SeatHoldRepository seatHoldRepository, MeterRegistry registry,
+                     @Value("${eventease.holds.ttl-seconds:300}") long ttlSeconds,
+                     @Value("${eventease.holds.max-seats:10}") int maxSeats,
+                     @Value("${eventease.holds.tick-ms:100}") long tickMs,
+                     @Value("${eventease.holds.sweep-interval-ms:30000}") long sweepIntervalMs,
+                     @Value("${eventease.holds.batch-size:500}") int batchSize) {
+        this.bookingService = bookingService;
+        this.seatInventory = seatInventory;
+        this.userRepository = userRepository;
+        this.bookingRepository = bookingRepository;
+        this.seatHoldRepository = seatHoldRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.maxSeats = maxSeats;
+        this.tickMs = tickMs;
+        this.sweepIntervalMs = sweepIntervalMs;
+        this.batchSize = Math.max(1, batchSize);
+        this.wheel = new TimingWheel<>(tickMs, WHEEL_SIZE, 0);
+
+        this.expired = Counter.builder("eventease.seat.holds.expired")
+                .description("Seat holds released because they were not confirmed in time")
+                .register(registry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        driver = new Thread(this::driveLoop, "seat-hold-expiry");
+        driver.setDaemon(true);
+        driver.start();
+    }
+
+    public HoldResult hold(Long eventId, String userEmail, int seats) {
+        if (seats <= 0 || seats > maxSeats) {
+            return HoldResult.of(HoldStatus.INVALID);
+        }
+        if (seatInventory.current(eventId).isEmpty()) {
+            return HoldResult.of(HoldStatus.NOT_FOUND);
+        }
+
+        Optional<User> user = userRepository.findByEmail(userEmail);
+        if (user.isEmpty()) {
+            return HoldResult.of(HoldStatus.NOT_FOUND);
+        }
+        if (bookingRepository.existsByUserIdAndEventId(user.get().getId(), eventId)
+                || seatHoldRepository.existsByEventIdAndUserEmail(eventId, userEmail)) {
+            return HoldResult.of(HoldStatus.DUPLICATE);
+        }
+
+        Optional<SeatHoldRecord> hold;
+        try {
+            hold = bookingService.holdSeats(eventId, userEmail, seats, LocalDateTime.now().plus(ttl));
+        } catch (DataIntegrityViolationException e) {
+            // Lost the race on the one-hold-per-user-and-event constraint.
+            return HoldResult.of(HoldStatus.DUPLICATE);
+        }
+        if (hold.isEmpty()) {
+            return HoldResult.of(HoldStatus.SOLD_OUT);
+        }
+
+        SeatHoldRecord record = hold.get();
+        wheel.schedule(record.getId(), now() + ttl.toMillis());
+        return new HoldResult(HoldStatus.HELD, new SeatHold(record.getId(), eventId, seats,
+                record.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant()));
+    }
+
+    public HoldStatus confirm(String holdId, String userEmail) {
+        Optional<SeatHoldRecord> hold = findLive(holdId);
+        if (hold.isEmpty()) {
+            return HoldStatus.NOT_FOUND;
+        }
+        if (!hold.get().getUserEmail().equals(userEmail)) {
+            return HoldStatus.FORBIDDEN;
+        }
+
+        return switch (bookingService.confirmHeldSeats(hold.get())) {
+            case CONFIRMED -> HoldStatus.CONFIRMED;
+            case DUPLICATE -> HoldStatus.DUPLICATE;
+            case SOLD_OUT -> HoldStatus.SOLD_OUT;
+            case NOT_FOUND, BUSY -> HoldStatus.NOT_FOUND;
+        };
+    }
+
+    public HoldStatus release(String holdId, String userEmail) {
+        Optional<SeatHoldRecord> hold = findLive(holdId);
+        if (hold.isEmpty()) {
+            return HoldStatus.NOT_FOUND;
+        }
+        if (!hold.get().getUserEmail().equals(userEmail)) {
+            return HoldStatus.FORBIDDEN;
+        }
+        return bookingService.releaseHold(hold.get()) ? HoldStatus.RELEASED : HoldStatus.NOT_FOUND;
+    }
+
+    // A hold past its deadline is as good as released, whether or not expiry has reached it yet.
+    private Optional<SeatHoldRecord> findLive(String holdId) {
+        return seatHoldRepository.findById(holdId)
+                .filter(hold -> hold.getExpiresAt().isAfter(LocalDateTime.now()));
+    }
+
+    private void driveLoop() {
+        long nextSweep = 0;
+        while (running) {
+            try {
+                Thread.sleep(tickMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            List<String> due = wheel.advance(now());
+            for (int from = 0; from < due.size(); from += batchSize) {
+                releaseDue(due.subList(from, Math.min(due.size(), from + batchSize)));
+            }
+
+            if (now() >= nextSweep) {
+                sweep();
+                nextSweep = now() + sweepIntervalMs;
+            }
+        }
+    }
+
+    // Ids confirmed or released in the meantime are simply no longer in the table. The wheel can fire up to a tick
+    // early and a hold being confirmed is skipped, so anything still held goes back on the wheel for its real deadline.
+    private void releaseDue(List<String> holdIds) {
+        try {
+            int released = bookingService.releaseHolds(holdIds, LocalDateTime.now());
+            expired.increment(released);
+            if (released < holdIds.size()) {
+                seatHoldRepository.findAllById(holdIds).forEach(hold -> wheel.schedule(hold.getId(), deadline(hold)));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not release {} expired holds, will retry", holdIds.size(), e);
+            long retryAt = now() + sweepIntervalMs;
+            holdIds.forEach(id -> wheel.schedule(id, retryAt));
+        }
+    }
+
+    private void sweep() {
+        try {
+            int released;
+            do {
+                released = bookingService.releaseExpiredHolds(LocalDateTime.now(), batchSize);
+                expired.increment(released);
+            } while (released == batchSize && running);
+        } catch (RuntimeException e) {
+            log.warn("Could not sweep expired holds", e);
+        }
+    }
+
+    // Outstanding holds stay in the table; whichever node sweeps next releases them when they expire.
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        driver.interrupt();
+        driver.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private long deadline(SeatHoldRecord hold) {
+        long remaining = Math.max(0, Duration.between(LocalDateTime.now(), hold.getExpiresAt()).toMillis());
+        return now() + remaining + tickMs;
+    }
+
+    private long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - baseNanos);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,280 @@
+package com.example.EventEase.Service;
+
+import com.example.EventEase.Entity.Event;
+import com.example.EventEase.Repository.EventRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class SeatInventory {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatInventory.class);
+
+    private static final int MAX_REMEMBERED_MISSES = 10_000;
+    private static final Duration MISS_TTL = Duration.ofMinutes(5);
+
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean writeBehind;
+
+    private final Map<Long, Seats> seats = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    // Ids with no event row, so lookups for them don't hit the database every time. Bounded because the ids come from requests.
+    private final Cache<Long, Boolean> missing = Caffeine.newBuilder()
+            .maximumSize(MAX_REMEMBERED_MISSES)
+            .expireAfterWrite(MISS_TTL)
+            .build();
+
+    public SeatInventory(EventRepository eventRepository, TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+                         @Value("${eventease.booking.mode:INVENTORY}") BookingService.ReservationMode mode) {
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.writeBehind = mode == BookingService.ReservationMode.INVENTORY;
+    }
+
+    // available goes negative when a total shrinks below what is already sold: booked() stays the real count and
+    // nothing more is sold until enough seats come back.
+    static final class Seats {
+        volatile int total;
+        final AtomicInteger available;
+        final AtomicInteger held = new AtomicInteger();
+
+        Seats(int total, int booked, int held) {
+            this.total = total;
+            this.available = new AtomicInteger(total - booked - held);
+            this.held.set(held);
+        }
+
+        int booked() {
+            return total - available.get();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        transactionTemplate.executeWithoutResult(status ->
+                eventRepository.findAll().forEach(this::track));
+        log.info("Seat inventory seeded with {} events", seats.size());
+    }
+
+    public void track(Event event) {
+        int total = event.getTotalSeats();
+        int booked = event.getBookedSeats() == null ? 0 : event.getBookedSeats();
+        int held = event.getHeldSeats() == null ? 0 : event.getHeldSeats();
+
+        missing.invalidate(event.getId());
+        seats.compute(event.getId(), (id, current) -> {
+            if (current == null) {
+                return new Seats(total, booked, held);
+            }
+            int delta = total - current.total;
+            current.total = total;
+            current.available.addAndGet(delta);
+            return current;
+        });
+        publish(event.getId());
+    }
+
+    // Applied after commit so the inventory never holds a total or an event that was rolled back.
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChange change) {
+        if (change.getKind() == CatalogChange.Kind.SAVED) {
+            track(change.getEvent());
+        } else {
+            forget(change.getEventId());
+        }
+    }
+
+    public void forget(Long eventId) {
+        seats.remove(eventId);
+        dirty.remove(eventId);
+    }
+
+    public boolean tryReserve(Long eventId, int count) {
+        Seats s = load(eventId);
+        if (s == null || count <= 0) {
+            return false;
+        }
+
+        AtomicInteger available = s.available;
+        int current;
+        do {
+            current = available.get();
+            if (current < count) {
+                return false;
+            }
+        } while (!available.compareAndSet(current, current - count));
+
+        markDirty(eventId);
+        publish(eventId, s);
+        return true;
+    }
+
+    public void release(Long eventId, int count) {
+        Seats s = load(eventId);
+        if (s == null || count <= 0) {
+            return;
+        }
+
+        s.available.accumulateAndGet(count, (current, n) -> Math.min(s.total, current + n));
+        markDirty(eventId);
+        publish(eventId, s);
+    }
+
+    // Held seats are unavailable but not yet sold, so write-behind leaves them out of booked_seats. The held count
+    // goes up before the seats leave available: a flush in between then under-counts for one round instead of
+    // writing held seats into booked_seats.
+    public boolean tryHold(Long eventId, int count) {
+        Seats s = load(eventId);
+        if (s == null || count <= 0) {
+            return false;
+        }
+
+        s.held.addAndGet(count);
+        if (!tryReserve(eventId, count)) {
+            s.held.addAndGet(-count);
+            markDirty(eventId);
+            return false;
+        }
+        return true;
+    }
+
+    public void releaseHold(Long eventId, int count) {
+        Seats s = seats.get(eventId);
+        if (s == null || count <= 0) {
+            return;
+        }
+        s.held.addAndGet(-count);
+        release(eventId, count);
+    }
+
+    public void convertHold(Long eventId, int count) {
+        Seats s = seats.get(eventId);
+        if (s != null && count > 0) {
+            s.held.addAndGet(-count);
+            markDirty(eventId);
+        }
+    }
+
+    // Called after the booking committed: an event loaded here already counts the delta.
+    public void mirror(Long eventId, int bookedDelta) {
+        Seats s = seats.get(eventId);
+        if (s == null) {
+            load(eventId);
+            return;
+        }
+        s.available.addAndGet(-bookedDelta);
+        publish(eventId, s);
+    }
+
+    public int available(Long eventId) {
+        Seats s = load(eventId);
+        return s == null ? 0 : Math.max(0, s.available.get());
+    }
+
+    // Never goes to the database: every event is tracked from startup, so one missing here has nothing to sell.
+    public int cachedAvailable(Long eventId) {
+        Seats s = seats.get(eventId);
+        return s == null ? 0 : Math.max(0, s.available.get());
+    }
+
+    public int booked(Long eventId) {
+        Seats s = load(eventId);
+        return s == null ? 0 : s.booked();
+    }
+
+    public Optional<SeatChange> current(Long eventId) {
+        Seats s = load(eventId);
+        return s == null ? Optional.empty() : Optional.of(new SeatChange(eventId, s.total, s.booked()));
+    }
+
+    public List<SeatChange> snapshot() {
+        List<SeatChange> snapshot = new ArrayList<>(seats.size());
+        seats.forEach((eventId, s) -> snapshot.add(new SeatChange(eventId, s.total, s.booked())));
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${eventease.inventory.flush-interval-ms:500}")
+    public void flush() {
+        Iterator<Long> it = dirty.iterator();
+        while (it.hasNext()) {
+            Long eventId = it.next();
+            it.remove();
+
+            Seats s = seats.get(eventId);
+            if (s == null) {
+                continue;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        eventRepository.updateBookedSeats(eventId, s.booked() - s.held.get()));
+            } catch (RuntimeException e) {
+                dirty.add(eventId);
+                log.warn("Could not persist seat count for event {}", eventId, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void markDirty(Long eventId) {
+        if (writeBehind) {
+            dirty.add(eventId);
+        }
+    }
+
+    private void publish(Long eventId) {
+        Seats s = seats.get(eventId);
+        if (s != null) {
+            publish(eventId, s);
+        }
+    }
+
+    private void publish(Long eventId, Seats s) {
+        eventPublisher.publishEvent(new SeatChange(eventId, s.total, s.booked()));
+    }
+
+    private Seats load(Long eventId) {
+        Seats s = seats.get(eventId);
+        if (s != null || missing.getIfPresent(eventId) != null) {
+            return s;
+        }
+
+        Optional<Event> event = eventRepository.findById(eventId);
+        if (event.isEmpty()) {
+            missing.put(eventId, Boolean.TRUE);
+            return null;
+        }
+        track(event.get());
+        return seats.get(eventId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.example.EventEase.Service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Hands out ids from a sequence that Hibernate's pooled optimizer also draws from. The sequence increments by the
+// entity's allocationSize and each value v reserves the ids (v - allocationSize + 1) .. v, so ids handed out here
+// never collide with JPA-created ones. The sequence's first value (the entity's initialValue) opens the id range
+// rather than closing a block, and ids never drop below 1.
+final class SequenceBlocks {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nextBlocks;
+    private final long firstId;
+    private final int blockSize;
+
+    SequenceBlocks(JdbcTemplate jdbcTemplate, String sequence, long firstId, int blockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nextBlocks = "select nextval('" + sequence + "') from generate_series(1, ?)";
+        this.firstId = firstId;
+        this.blockSize = blockSize;
+    }
+
+    List<Long> allocate(int count) {
+        List<Long> ids = new ArrayList<>(count + blockSize);
+        while (ids.size() < count) {
+            int blocks = (count - ids.size() + blockSize - 1) / blockSize;
+            for (Long high : jdbcTemplate.queryForList(nextBlocks, Long.class, blocks)) {
+                long low = high == firstId ? high : Math.max(1, high - blockSize + 1);
+                for (long id = low; id <= high; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids.subList(0, count);
+    }
+}
\ No newline at end of file
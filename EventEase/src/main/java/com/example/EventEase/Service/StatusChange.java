@@ -0,0 +1,15 @@
+package com.example.EventEase.Service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class StatusChange {
+
+    private final List<Long> eventIds;
+
+    private final String status;
+}
\ No newline at end of file
@@ -0,0 +1,193 @@
+package com.example.EventEase.Service;
+
+import com.example.EventEase.Dto.TagQueryResult;
+import com.example.EventEase.Repository.EventRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class TagIndex {
+
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Event ids are mapped to dense ordinals so every posting list is a compact bitmap.
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private long[] eventIds = new long[1024];
+    private final BitSet live = new BitSet();
+    private final BitSet freeOrdinals = new BitSet();
+    private int nextOrdinal;
+
+    private final Map<String, BitSet> postings = new HashMap<>();
+    private final Map<Long, Set<String>> tagsByEvent = new HashMap<>();
+
+    public TagIndex(EventRepository eventRepository, TransactionTemplate transactionTemplate) {
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<Long, Set<String>> tags = transactionTemplate.execute(status -> {
+            Map<Long, Set<String>> all = new HashMap<>(eventRepository.findAllTags());
+            eventRepository.findAllIds().forEach(id -> all.putIfAbsent(id, Set.of()));
+            return all;
+        });
+
+        lock.writeLock().lock();
+        try {
+            tags.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChange change) {
+        lock.writeLock().lock();
+        try {
+            if (change.getKind() == CatalogChange.Kind.DELETED) {
+                remove(change.getEventId());
+            } else {
+                Set<String> tags = change.getEvent().getTags();
+                put(change.getEventId(), tags == null ? Set.of() : tags);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public TagQueryResult query(Collection<String> tags, boolean matchAll) {
+        lock.readLock().lock();
+        try {
+            BitSet result = match(tags, matchAll);
+
+            List<Long> ids = new ArrayList<>(result.cardinality());
+            for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+                ids.add(eventIds[i]);
+            }
+            ids.sort(null);
+
+            Map<String, Integer> facets = new TreeMap<>();
+            postings.forEach((tag, posting) -> {
+                BitSet hits = (BitSet) posting.clone();
+                hits.and(result);
+                int count = hits.cardinality();
+                if (count > 0) {
+                    facets.put(tag, count);
+                }
+            });
+
+            return new TagQueryResult(ids, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet match(Collection<String> tags, boolean matchAll) {
+        if (tags == null || tags.isEmpty()) {
+            return (BitSet) live.clone();
+        }
+
+        BitSet result = null;
+        for (String tag : tags) {
+            BitSet posting = postings.getOrDefault(normalize(tag), new BitSet());
+            if (result == null) {
+                result = (BitSet) posting.clone();
+            } else if (matchAll) {
+                result.and(posting);
+            } else {
+                result.or(posting);
+            }
+        }
+        return result;
+    }
+
+    private void put(Long eventId, Set<String> tags) {
+        Integer ordinal = ordinals.get(eventId);
+        if (ordinal == null) {
+            ordinal = allocate(eventId);
+        }
+
+        Set<String> normalized = new HashSet<>();
+        for (String tag : tags) {
+            if (tag != null && !tag.isBlank()) {
+                normalized.add(normalize(tag));
+            }
+        }
+
+        Set<String> previous = tagsByEvent.getOrDefault(eventId, Set.of());
+        for (String tag : previous) {
+            if (!normalized.contains(tag)) {
+                clear(tag, ordinal);
+            }
+        }
+        for (String tag : normalized) {
+            postings.computeIfAbsent(tag, t -> new BitSet()).set(ordinal);
+        }
+        tagsByEvent.put(eventId, normalized);
+    }
+
+    private void remove(Long eventId) {
+        Integer ordinal = ordinals.remove(eventId);
+        if (ordinal == null) {
+            return;
+        }
+
+        for (String tag : tagsByEvent.remove(eventId)) {
+            clear(tag, ordinal);
+        }
+        live.clear(ordinal);
+        freeOrdinals.set(ordinal);
+    }
+
+    private void clear(String tag, int ordinal) {
+        BitSet posting = postings.get(tag);
+        if (posting != null) {
+            posting.clear(ordinal);
+            if (posting.isEmpty()) {
+                postings.remove(tag);
+            }
+        }
+    }
+
+    private int allocate(Long eventId) {
+        int ordinal = freeOrdinals.nextSetBit(0);
+        if (ordinal >= 0) {
+            freeOrdinals.clear(ordinal);
+        } else {
+            ordinal = nextOrdinal++;
+            if (ordinal == eventIds.length) {
+                eventIds = Arrays.copyOf(eventIds, eventIds.length * 2);
+            }
+        }
+
+        eventIds[ordinal] = eventId;
+        ordinals.put(eventId, ordinal);
+        live.set(ordinal);
+        return ordinal;
+    }
+
+    private static String normalize(String tag) {
+        return tag.trim().toLowerCase(Locale.ROOT);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.example.EventEase.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Hierarchical timing wheel: scheduling and cancelling are O(1), and each tick only touches the bucket that is due.
+// Deadlines further out than one wheel go to a coarser overflow wheel and cascade down as time catches up,
+// so an item fires up to one tick before its deadline.
+public final class TimingWheel<T> {
+
+    public final class Timeout {
+
+        private final T item;
+        private final long deadline;
+        private volatile boolean cancelled;
+
+        private Timeout(T item, long deadline) {
+            this.item = item;
+            this.deadline = deadline;
+        }
+
+        public T item() {
+            return item;
+        }
+
+        public long deadline() {
+            return deadline;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private final class Level {
+
+        private final long tickMs;
+        private final long intervalMs;
+        private final List<ArrayDeque<Timeout>> buckets;
+        private long currentTime;
+        private Level overflow;
+
+        private Level(long tickMs, long startMs) {
+            this.tickMs = tickMs;
+            this.intervalMs = tickMs * wheelSize;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayDeque<>());
+            }
+            this.currentTime = startMs - startMs % tickMs;
+        }
+
+        private boolean add(Timeout timeout) {
+            if (timeout.deadline < currentTime + tickMs) {
+                return false;
+            }
+            if (timeout.deadline < currentTime + intervalMs) {
+                bucket(timeout.deadline).add(timeout);
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level(intervalMs, currentTime);
+            }
+            return overflow.add(timeout);
+        }
+
+        private ArrayDeque<Timeout> bucket(long time) {
+            return buckets.get((int) ((time / tickMs) % wheelSize));
+        }
+    }
+
+    private final int wheelSize;
+    private final Level root;
+    private final ArrayDeque<Timeout> due = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public TimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 0 || startMs < 0) {
+            throw new IllegalArgumentException("tickMs and wheelSize must be positive and startMs non-negative");
+        }
+        this.wheelSize = wheelSize;
+        this.root = new Level(tickMs, startMs);
+    }
+
+    public Timeout schedule(T item, long deadline) {
+        Timeout timeout = new Timeout(item, deadline);
+        lock.lock();
+        try {
+            if (!root.add(timeout)) {
+                due.add(timeout);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return timeout;
+    }
+
+    public List<T> advance(long now) {
+        List<T> expired = new ArrayList<>();
+        List<Timeout> cascading = new ArrayList<>();
+
+        lock.lock();
+        try {
+            for (Timeout timeout : due) {
+                if (!timeout.cancelled) {
+                    expired.add(timeout.item);
+                }
+            }
+            due.clear();
+
+            for (Level level = root; level != null; level = level.overflow) {
+                while (level.currentTime + level.tickMs <= now) {
+                    level.currentTime += level.tickMs;
+                    ArrayDeque<Timeout> bucket = level.bucket(level.currentTime);
+                    cascading.addAll(bucket);
+                    bucket.clear();
+                }
+            }
+
+            for (Timeout timeout : cascading) {
+                if (!timeout.cancelled && !root.add(timeout)) {
+                    expired.add(timeout.item);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return expired;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,239 @@
+package com.example.EventEase.Service;
+
+import com.example.EventEase.Dto.OnboardingReport;
+import com.example.EventEase.Dto.OnboardingReport.Outcome;
+import com.example.EventEase.Dto.StudentRecord;
+import com.example.EventEase.Repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class UserImporter {
+
+    private static final int ID_BLOCK_SIZE = 5;
+    private static final long FIRST_ID = 30104;
+    private static final int HASH_THRESHOLD = 16;
+
+    private static final String INSERT_USER = "insert into users (id, name, email, password, university, course, "
+            + "currently_studying_or_not, role) values (?, ?, ?, ?, ?, ?, ?, 'USER')";
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final SequenceBlocks idBlocks;
+    private final ForkJoinPool hashPool;
+    private final int batchSize;
+
+    public UserImporter(UserRepository userRepository, PasswordEncoder passwordEncoder, JdbcTemplate jdbcTemplate,
+                        TransactionTemplate transactionTemplate, ObjectMapper objectMapper,
+                        @Value("${eventease.onboarding.hash-threads:0}") int hashThreads,
+                        @Value("${eventease.onboarding.batch-size:1000}") int batchSize) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.idBlocks = new SequenceBlocks(jdbcTemplate, "user_id_seq", FIRST_ID, ID_BLOCK_SIZE);
+        this.hashPool = new ForkJoinPool(hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors());
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    private static final class Student {
+
+        final StudentRecord record;
+        final OnboardingReport.Row result;
+        String passwordHash;
+
+        Student(StudentRecord record, OnboardingReport.Row result) {
+            this.record = record;
+            this.result = result;
+        }
+    }
+
+    public OnboardingReport importUsers(InputStream in) {
+        long start = System.nanoTime();
+        OnboardingReport report = new OnboardingReport();
+
+        List<Student> students = read(in, report);
+
+        if (!students.isEmpty()) {
+            String[] emails = students.stream().map(student -> student.record.getEmail()).toArray(String[]::new);
+            Set<String> existing = new HashSet<>(userRepository.findEmailsIn(emails));
+            students.removeIf(student -> {
+                if (!existing.contains(student.record.getEmail())) {
+                    return false;
+                }
+                skip(report, student.result, Outcome.EXISTING, "Email is already registered");
+                return true;
+            });
+        }
+
+        if (!students.isEmpty()) {
+            hashPool.invoke(new HashTask(students, 0, students.size()));
+            transactionTemplate.executeWithoutResult(status -> insert(students));
+
+            for (Student student : students) {
+                student.result.setOutcome(Outcome.CREATED);
+            }
+            report.setCreated(students.size());
+        }
+
+        report.setElapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return report;
+    }
+
+    private List<Student> read(InputStream in, OnboardingReport report) {
+        List<Student> students = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+
+        MappingIterator<StudentRecord> records = objectMapper.readerFor(StudentRecord.class).readValues(in);
+        for (int row = 1; ; row++) {
+            OnboardingReport.Row result = new OnboardingReport.Row(row, null, null, null, null);
+
+            StudentRecord record;
+            try {
+                if (!records.hasNextValue()) {
+                    break;
+                }
+                record = records.nextValue();
+            } catch (StreamReadException e) {
+                // Broken syntax leaves the parser no way to find the next row, so the rest of the roster is unread.
+                report.getRows().add(result);
+                invalid(report, result, e.getOriginalMessage() + "; later rows were not read");
+                break;
+            } catch (JacksonException e) {
+                report.getRows().add(result);
+                invalid(report, result, e.getOriginalMessage());
+                continue;
+            }
+            report.getRows().add(result);
+
+            String problem = validate(record);
+            if (record != null && record.getEmail() != null) {
+                record.setEmail(record.getEmail().trim());
+                result.setEmail(record.getEmail());
+            }
+            if (problem != null) {
+                invalid(report, result, problem);
+                continue;
+            }
+            if (!seen.add(record.getEmail())) {
+                skip(report, result, Outcome.DUPLICATE, "Email appears earlier in this import");
+                continue;
+            }
+
+            if (record.getCurrentlyStudyingOrNot() == null) {
+                record.setCurrentlyStudyingOrNot(true);
+            }
+            students.add(new Student(record, result));
+        }
+        return students;
+    }
+
+    private void insert(List<Student> students) {
+        List<Long> ids = idBlocks.allocate(students.size());
+        for (int i = 0; i < students.size(); i++) {
+            students.get(i).result.setUserId(ids.get(i));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_USER, students, batchSize, (ps, student) -> {
+            StudentRecord record = student.record;
+            ps.setLong(1, student.result.getUserId());
+            ps.setString(2, record.getName().trim());
+            ps.setString(3, record.getEmail());
+            ps.setString(4, student.passwordHash);
+            ps.setString(5, record.getUniversity().trim());
+            ps.setString(6, record.getCourse().trim());
+            ps.setBoolean(7, record.getCurrentlyStudyingOrNot());
+        });
+    }
+
+    private static String validate(StudentRecord record) {
+        if (record == null) {
+            return "Empty row";
+        }
+        if (isBlank(record.getName())) {
+            return "Name is required";
+        }
+        if (isBlank(record.getEmail()) || !record.getEmail().contains("@")) {
+            return "A valid email is required";
+        }
+        if (isBlank(record.getPassword())) {
+            return "Password is required";
+        }
+        if (isBlank(record.getUniversity())) {
+            return "University is required";
+        }
+        if (isBlank(record.getCourse())) {
+            return "Course is required";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static void invalid(OnboardingReport report, OnboardingReport.Row result, String message) {
+        result.setOutcome(Outcome.INVALID);
+        result.setMessage(message);
+        report.setRejected(report.getRejected() + 1);
+    }
+
+    private static void skip(OnboardingReport report, OnboardingReport.Row result, Outcome outcome, String message) {
+        result.setOutcome(outcome);
+        result.setMessage(message);
+        report.setSkipped(report.getSkipped() + 1);
+    }
+
+    // BCrypt dominates an onboarding job, so rows are split recursively and idle workers steal the remaining halves.
+    private final class HashTask extends RecursiveAction {
+
+        private final List<Student> students;
+        private final int from;
+        private final int to;
+
+        HashTask(List<Student> students, int from, int to) {
+            this.students = students;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= HASH_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    Student student = students.get(i);
+                    student.passwordHash = passwordEncoder.encode(student.record.getPassword());
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new HashTask(students, from, middle), new HashTask(students, middle, to));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashPool.shutdown();
+    }
+}
\ No newline at end of file
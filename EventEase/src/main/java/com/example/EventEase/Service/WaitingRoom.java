@@ -0,0 +1,194 @@
+package com.example.EventEase.Service;
+
+import com.example.EventEase.Dto.AdmissionTicket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class WaitingRoom {
+
+    private static final Logger log = LoggerFactory.getLogger(WaitingRoom.class);
+
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+
+    private final SeatInventory seatInventory;
+    private final boolean enabled;
+    private final double admitPerSecond;
+    private final long burst;
+    private final Duration ticketTtl;
+    private final SecretKeySpec key;
+
+    private final Map<Long, Room> rooms = new ConcurrentHashMap<>();
+
+    public WaitingRoom(SeatInventory seatInventory,
+                       @Value("${eventease.waiting-room.enabled:false}") boolean enabled,
+                       @Value("${eventease.waiting-room.admit-per-second:50}") double admitPerSecond,
+                       @Value("${eventease.waiting-room.burst:100}") long burst,
+                       @Value("${eventease.waiting-room.ticket-ttl-seconds:900}") long ticketTtlSeconds,
+                       @Value("${eventease.waiting-room.ticket-secret:}") String secret) {
+        this.seatInventory = seatInventory;
+        this.enabled = enabled;
+        this.admitPerSecond = Math.max(0.001, admitPerSecond);
+        this.burst = Math.max(1, burst);
+        this.ticketTtl = Duration.ofSeconds(ticketTtlSeconds);
+
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            if (enabled) {
+                log.warn("No eventease.waiting-room.ticket-secret configured; admission tickets will only be valid on this node until restart");
+            }
+        } else {
+            keyBytes = Base64.getDecoder().decode(secret);
+        }
+        this.key = new SecretKeySpec(keyBytes, SIGNATURE_ALGORITHM);
+    }
+
+    private record Issued(String ticket, long number, long expiresAt) {
+    }
+
+    private final class Room {
+        private long issued;
+        private double horizon = burst;
+        private long lastAdvance = System.nanoTime();
+        // One live queue number per account, so polling for a ticket can't push everyone else back.
+        private final Map<String, Issued> holders = new HashMap<>();
+
+        synchronized Issued take(Long eventId, String username) {
+            long now = Instant.now().getEpochSecond();
+            Issued current = holders.get(username);
+            if (current != null && current.expiresAt() > now) {
+                return current;
+            }
+
+            long number = ++issued;
+            long expiresAt = now + ticketTtl.getSeconds();
+            String payload = encode((eventId + ":" + number + ":" + expiresAt).getBytes(StandardCharsets.UTF_8));
+            Issued ticket = new Issued(payload + "." + encode(sign(payload, username)), number, expiresAt);
+            holders.put(username, ticket);
+            return ticket;
+        }
+
+        synchronized long horizon() {
+            long now = System.nanoTime();
+            horizon = Math.min(horizon + admitPerSecond * (now - lastAdvance) / 1_000_000_000.0, issued + burst);
+            lastAdvance = now;
+            return (long) horizon;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isSoldOut(Long eventId) {
+        return seatInventory.cachedAvailable(eventId) <= 0;
+    }
+
+    public Optional<AdmissionTicket> issue(Long eventId, String username) {
+        if (isSoldOut(eventId)) {
+            return Optional.empty();
+        }
+
+        Issued issued = rooms.computeIfAbsent(eventId, id -> new Room()).take(eventId, username);
+        return Optional.of(describe(eventId, issued.ticket(), issued.number()));
+    }
+
+    public Optional<AdmissionTicket> status(Long eventId, String ticket, String username) {
+        long number = verify(eventId, ticket, username);
+        if (number <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(describe(eventId, ticket, number));
+    }
+
+    public boolean isAdmitted(Long eventId, String ticket, String username) {
+        if (ticket == null) {
+            return false;
+        }
+
+        long number = verify(eventId, ticket, username);
+        Room room = rooms.get(eventId);
+        return number > 0 && room != null && number <= room.horizon();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChange change) {
+        if (change.getKind() == CatalogChange.Kind.DELETED) {
+            rooms.remove(change.getEventId());
+        }
+    }
+
+    private AdmissionTicket describe(Long eventId, String ticket, long number) {
+        Room room = rooms.get(eventId);
+        long position = room == null ? number : Math.max(0, number - room.horizon());
+        boolean soldOut = isSoldOut(eventId);
+        long retryAfter = position == 0 ? 0 : (long) Math.ceil(position / admitPerSecond);
+
+        return new AdmissionTicket(ticket, eventId, number, position, position == 0 && !soldOut, soldOut, retryAfter);
+    }
+
+    private long verify(Long eventId, String ticket, String username) {
+        int dot = ticket.indexOf('.');
+        if (dot <= 0) {
+            return 0;
+        }
+
+        String payload = ticket.substring(0, dot);
+        String[] claims;
+        byte[] signature;
+        try {
+            signature = Base64.getUrlDecoder().decode(ticket.substring(dot + 1));
+            claims = new String(Base64.getUrlDecoder().decode(payload), StandardCharsets.UTF_8).split(":");
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+
+        if (claims.length != 3 || !MessageDigest.isEqual(sign(payload, username), signature)) {
+            return 0;
+        }
+
+        try {
+            if (Long.parseLong(claims[0]) != eventId || Instant.now().getEpochSecond() >= Long.parseLong(claims[2])) {
+                return 0;
+            }
+            return Long.parseLong(claims[1]);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private byte[] sign(String payload, String username) {
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(key);
+            mac.update(payload.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(username.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
\ No newline at end of file
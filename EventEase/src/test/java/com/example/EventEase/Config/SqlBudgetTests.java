@@ -0,0 +1,66 @@
+package com.example.EventEase.Config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SqlBudgetTests {
+
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		JdbcDataSource h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:sql-budget;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(new SqlCountingDataSource(h2));
+		jdbcTemplate.execute("create table if not exists item (id bigint primary key, name varchar(50))");
+		jdbcTemplate.execute("merge into item key (id) values (1, 'a'), (2, 'b'), (3, 'c')");
+	}
+
+	@Test
+	void countsStatementsAndRepeatedShapes() {
+		SqlBudget.Tally tally = SqlBudget.measure(() -> {
+			for (long id = 1; id <= 3; id++) {
+				jdbcTemplate.queryForObject("select name from item where id = " + id, String.class);
+			}
+			jdbcTemplate.queryForObject("select count(*) from item where name in ('a', 'b')", Long.class);
+		});
+
+		assertEquals(4, tally.statements());
+		assertEquals(3, tally.mostRepeated().getValue());
+		assertEquals("select name from item where id = ?", tally.mostRepeated().getKey());
+	}
+
+	@Test
+	void fingerprintCollapsesLiteralsAndInLists() {
+		assertEquals("select * from item where id in (?) and name = ?",
+				SqlBudget.fingerprint("SELECT *  FROM item\n WHERE id IN (1, 2, 3) AND name = 'x'"));
+	}
+
+	@Test
+	void strictModeRejectsStatementsOverBudget() {
+		SqlBudget.begin(2, 0, true);
+		try {
+			assertDoesNotThrow(() -> jdbcTemplate.queryForObject("select count(*) from item", Long.class));
+			assertDoesNotThrow(() -> jdbcTemplate.queryForObject("select count(*) from item", Long.class));
+			assertThrows(SqlBudgetExceededException.class,
+					() -> jdbcTemplate.queryForObject("select count(*) from item", Long.class));
+		} finally {
+			SqlBudget.end();
+		}
+	}
+
+	@Test
+	void assertAtMostFailsWhenBudgetIsExceeded() {
+		assertDoesNotThrow(() -> SqlBudget.assertAtMost(1, () -> jdbcTemplate.queryForObject("select 1", Integer.class)));
+		assertThrows(SqlBudgetExceededException.class, () -> SqlBudget.assertAtMost(1, () -> {
+			jdbcTemplate.queryForObject("select 1", Integer.class);
+			jdbcTemplate.queryForObject("select 2", Integer.class);
+		}));
+	}
+}
@@ -0,0 +1,195 @@
+package com.example.EventEase;
+
+import com.example.EventEase.Controller.BookingController;
+import com.example.EventEase.Entity.Admin;
+import com.example.EventEase.Entity.Booking;
+import com.example.EventEase.Entity.Event;
+import com.example.EventEase.Entity.User;
+import com.example.EventEase.Repository.AdminRepository;
+import com.example.EventEase.Repository.BookingRepository;
+import com.example.EventEase.Repository.EventRepository;
+import com.example.EventEase.Repository.UserRepository;
+import com.example.EventEase.Service.SeatInventory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Run with -Dloadtest=true (and optionally -Dloadtest.mode=DATABASE). Uses an in-memory H2 database.
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(properties = "eventease.booking.mode=${loadtest.mode:INVENTORY}")
+@ActiveProfiles("loadtest")
+class ReservationLoadTests {
+
+	private static final int USERS = 5_000;
+	private static final int EVENTS = 200;
+	private static final int SEATS_PER_EVENT = 40;
+	private static final int THREADS = 64;
+	private static final int OPERATIONS = 40_000;
+	private static final int CANCEL_PERCENT = 15;
+
+	@Autowired
+	private BookingController bookingController;
+
+	@Autowired
+	private AdminRepository adminRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private BookingRepository bookingRepository;
+
+	@Autowired
+	private SeatInventory seatInventory;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void concurrentReservationsNeverOversell() throws Exception {
+		List<User> users = new ArrayList<>(USERS);
+		List<Long> eventIds = new ArrayList<>(EVENTS);
+		seed(users, eventIds);
+
+		AtomicInteger confirmed = new AtomicInteger();
+		AtomicInteger cancelled = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		List<Future<Long>> futures = new ArrayList<>(OPERATIONS);
+
+		long start = System.nanoTime();
+		try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+			for (int i = 0; i < OPERATIONS; i++) {
+				futures.add(executor.submit(() -> {
+					ThreadLocalRandom random = ThreadLocalRandom.current();
+					User user = users.get(random.nextInt(users.size()));
+					Long eventId = eventIds.get(random.nextInt(eventIds.size()));
+
+					SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+							user.getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+					try {
+						long begin = System.nanoTime();
+						if (random.nextInt(100) < CANCEL_PERCENT) {
+							Optional<Booking> booking = bookingRepository.findByUserIdAndEventId(user.getId(), eventId);
+							if (booking.isPresent()
+									&& bookingController.cancelBooking(booking.get().getId(), null).getStatusCode().is2xxSuccessful()) {
+								cancelled.incrementAndGet();
+							}
+						} else {
+							ResponseEntity<?> response = bookingController.bookTicket(eventId, null, null);
+							(response.getStatusCode().is2xxSuccessful() ? confirmed : rejected).incrementAndGet();
+						}
+						return System.nanoTime() - begin;
+					} finally {
+						SecurityContextHolder.clearContext();
+					}
+				}));
+			}
+
+			long[] latencies = new long[OPERATIONS];
+			for (int i = 0; i < OPERATIONS; i++) {
+				latencies[i] = futures.get(i).get();
+			}
+			long elapsed = System.nanoTime() - start;
+
+			Arrays.sort(latencies);
+			System.out.printf("%d ops on %d threads: %d confirmed, %d cancelled, %d rejected%n",
+					OPERATIONS, THREADS, confirmed.get(), cancelled.get(), rejected.get());
+			System.out.printf("%.0f bookings/s, %.0f ops/s, p50=%.2fms, p99=%.2fms%n",
+					confirmed.get() / (elapsed / 1e9),
+					OPERATIONS / (elapsed / 1e9),
+					latencies[OPERATIONS / 2] / 1e6,
+					latencies[(int) (OPERATIONS * 0.99)] / 1e6);
+		}
+
+		seatInventory.flush();
+		assertNoOverselling(eventIds);
+	}
+
+	private void assertNoOverselling(List<Long> eventIds) {
+		List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+				"select e.id, e.total_seats, e.booked_seats, coalesce(sum(b.seats_booked), 0) as sold "
+						+ "from events e left join bookings b on b.event_id = e.id group by e.id, e.total_seats, e.booked_seats");
+		assertEquals(eventIds.size(), rows.size());
+
+		for (Map<String, Object> row : rows) {
+			long id = ((Number) row.get("id")).longValue();
+			int total = ((Number) row.get("total_seats")).intValue();
+			int booked = ((Number) row.get("booked_seats")).intValue();
+			int sold = ((Number) row.get("sold")).intValue();
+
+			assertEquals(sold, booked, "booked_seats out of sync for event " + id);
+			assertTrue(booked <= total, "event " + id + " oversold: " + booked + " > " + total);
+			assertEquals(booked, seatInventory.booked(id), "inventory out of sync for event " + id);
+		}
+	}
+
+	private void seed(List<User> users, List<Long> eventIds) {
+		transactionTemplate.executeWithoutResult(status -> {
+			Admin admin = new Admin();
+			admin.setName("Load Test Admin");
+			admin.setLocation("Ahmedabad");
+			admin.setEmail("loadtest-admin@eventease.dev");
+			admin.setPassword("unused");
+			admin.setContact("0000000000");
+			admin = adminRepository.save(admin);
+
+			List<User> newUsers = new ArrayList<>(USERS);
+			for (int i = 0; i < USERS; i++) {
+				User user = new User();
+				user.setName("Load User " + i);
+				user.setEmail("loaduser" + i + "@eventease.dev");
+				user.setPassword("unused");
+				user.setUniversity("University " + (i % 25));
+				user.setCourse("Course " + (i % 12));
+				user.setCurrentlyStudyingOrNot(true);
+				newUsers.add(user);
+			}
+			users.addAll(userRepository.saveAll(newUsers));
+
+			List<Event> newEvents = new ArrayList<>(EVENTS);
+			for (int i = 0; i < EVENTS; i++) {
+				Event event = new Event();
+				event.setName("Load Event " + i);
+				event.setAbout("Seeded for the reservation load test");
+				event.setOrganizationName("Load Org");
+				event.setDate(LocalDateTime.now().plusDays(1 + i % 30));
+				event.setVenue("Hall " + (i % 5));
+				event.setTotalSeats(SEATS_PER_EVENT);
+				event.setBookedSeats(0);
+				event.setAdmin(admin);
+				newEvents.add(event);
+			}
+			eventRepository.saveAll(newEvents).forEach(event -> eventIds.add(event.getId()));
+		});
+		eventIds.forEach(seatInventory::available);
+	}
+}
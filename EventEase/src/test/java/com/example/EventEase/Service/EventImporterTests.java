@@ -0,0 +1,58 @@
+package com.example.EventEase.Service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EventImporterTests {
+
+	@Test
+	void readsPlainRecords() throws IOException {
+		assertEquals(List.of(List.of("name", "venue"), List.of("Launch", "Hall A")),
+				read("name,venue\nLaunch,Hall A\n"));
+	}
+
+	@Test
+	void keepsCommasAndNewlinesInsideQuotedFields() throws IOException {
+		assertEquals(List.of(List.of("Launch, Day 1", "Hall A\nEast wing", "")),
+				read("\"Launch, Day 1\",\"Hall A\nEast wing\",\"\"\n"));
+	}
+
+	@Test
+	void unescapesDoubledQuotes() throws IOException {
+		assertEquals(List.of(List.of("The \"Big\" Night", "\"")),
+				read("\"The \"\"Big\"\" Night\",\"\"\"\"\n"));
+	}
+
+	@Test
+	void handlesCrlfLineEndings() throws IOException {
+		assertEquals(List.of(List.of("name", "venue"), List.of("Launch", "Hall A"), List.of("Gala", "Hall B")),
+				read("name,venue\r\nLaunch,Hall A\r\nGala,Hall B"));
+	}
+
+	@Test
+	void skipsBlankLines() throws IOException {
+		assertEquals(List.of(List.of("name"), List.of("Launch"), List.of("Gala")),
+				read("\nname\n\n\r\nLaunch\n   \nGala\n\n"));
+	}
+
+	@Test
+	void keepsEmptyFieldsBetweenDelimiters() throws IOException {
+		assertEquals(List.of(List.of("Launch", "", "", "Hall A", "")),
+				read("Launch,,,Hall A,\n"));
+	}
+
+	private static List<List<String>> read(String csv) throws IOException {
+		EventImporter.CsvReader reader = new EventImporter.CsvReader(new StringReader(csv));
+		List<List<String>> records = new ArrayList<>();
+		for (List<String> record = reader.readRecord(); record != null; record = reader.readRecord()) {
+			records.add(record);
+		}
+		return records;
+	}
+}
@@ -0,0 +1,54 @@
+package com.example.EventEase.Service;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SequenceBlocksTests {
+
+	private JdbcTemplate jdbcTemplate;
+	private SequenceBlocks idBlocks;
+
+	@BeforeEach
+	void setUp() {
+		JdbcDataSource h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:sequence-blocks;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(h2);
+		jdbcTemplate.execute("drop all objects");
+		jdbcTemplate.execute("create sequence user_id_seq start with 30104 increment by 5");
+		idBlocks = new SequenceBlocks(jdbcTemplate, "user_id_seq", 30104, 5);
+	}
+
+	@Test
+	void freshSequenceStartsAtTheInitialValue() {
+		assertEquals(List.of(30104L, 30105L, 30106L), idBlocks.allocate(3));
+		assertEquals(range(30110, 30114), idBlocks.allocate(5));
+	}
+
+	@Test
+	void continuesAfterIdsHibernateAlreadyHandedOut() {
+		// Hibernate's pooled optimizer reads 30104 and then 30109, and hands out 30104 .. 30109 itself.
+		jdbcTemplate.queryForObject("select nextval('user_id_seq')", Long.class);
+		jdbcTemplate.queryForObject("select nextval('user_id_seq')", Long.class);
+
+		assertEquals(range(30110, 30116), idBlocks.allocate(7));
+	}
+
+	@Test
+	void sequenceStartingAtOneCoversEveryId() {
+		jdbcTemplate.execute("create sequence small_seq start with 1 increment by 5");
+		SequenceBlocks small = new SequenceBlocks(jdbcTemplate, "small_seq", 1, 5);
+
+		assertEquals(range(1, 10), small.allocate(10));
+	}
+
+	private static List<Long> range(long from, long to) {
+		return LongStream.rangeClosed(from, to).boxed().toList();
+	}
+}
@@ -0,0 +1,42 @@
+package com.example.EventEase.Service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTests {
+
+	@Test
+	void firesOnTheTickThatReachesTheDeadline() {
+		TimingWheel<String> wheel = new TimingWheel<>(10, 8, 0);
+		wheel.schedule("a", 25);
+
+		assertTrue(wheel.advance(19).isEmpty());
+		assertEquals(List.of("a"), wheel.advance(30));
+		assertTrue(wheel.advance(100).isEmpty());
+	}
+
+	@Test
+	void cascadesDeadlinesBeyondOneRotation() {
+		TimingWheel<String> wheel = new TimingWheel<>(10, 8, 0);
+		wheel.schedule("far", 500);
+		wheel.schedule("near", 75);
+
+		assertEquals(List.of("near"), wheel.advance(480));
+		assertTrue(wheel.advance(499).isEmpty());
+		assertEquals(List.of("far"), wheel.advance(500));
+	}
+
+	@Test
+	void skipsCancelledAndReturnsPastDeadlinesImmediately() {
+		TimingWheel<String> wheel = new TimingWheel<>(10, 8, 100);
+		wheel.schedule("cancelled", 150).cancel();
+		wheel.schedule("overdue", 50);
+
+		assertEquals(List.of("overdue"), wheel.advance(100));
+		assertTrue(wheel.advance(200).isEmpty());
+	}
+}
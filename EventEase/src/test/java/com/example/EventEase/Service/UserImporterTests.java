@@ -0,0 +1,83 @@
+package com.example.EventEase.Service;
+
+import com.example.EventEase.Dto.OnboardingReport;
+import com.example.EventEase.Dto.OnboardingReport.Outcome;
+import com.example.EventEase.Repository.UserRepository;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+
+class UserImporterTests {
+
+	private JdbcTemplate jdbcTemplate;
+	private UserImporter importer;
+
+	@BeforeEach
+	void setUp() {
+		JdbcDataSource h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:user-importer;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(h2);
+		jdbcTemplate.execute("drop all objects");
+		jdbcTemplate.execute("create sequence user_id_seq start with 30104 increment by 5");
+		jdbcTemplate.execute("create table users (id bigint primary key, name varchar(255), email varchar(255), "
+				+ "password varchar(255), university varchar(255), course varchar(255), "
+				+ "currently_studying_or_not boolean, role varchar(20))");
+
+		importer = new UserImporter(mock(UserRepository.class), new BCryptPasswordEncoder(4), jdbcTemplate,
+				new TransactionTemplate(new DataSourceTransactionManager(h2)), new ObjectMapper(), 2, 1000);
+	}
+
+	@AfterEach
+	void tearDown() {
+		importer.shutdown();
+	}
+
+	@Test
+	void rejectsMalformedRowAndImportsTheRest() {
+		String roster = "[" + student("ada") + ","
+				+ "{\"name\": \"Broken\", \"email\": \"broken@uni.edu\", \"currentlyStudyingOrNot\": \"maybe\"},"
+				+ student("grace") + "]";
+
+		OnboardingReport report = importer.importUsers(new ByteArrayInputStream(roster.getBytes(StandardCharsets.UTF_8)));
+
+		assertEquals(2, report.getCreated());
+		assertEquals(1, report.getRejected());
+		List<Outcome> outcomes = report.getRows().stream().map(OnboardingReport.Row::getOutcome).toList();
+		assertEquals(List.of(Outcome.CREATED, Outcome.INVALID, Outcome.CREATED), outcomes);
+		assertEquals(2, report.getRows().get(1).getRow());
+		assertNotNull(report.getRows().get(1).getMessage());
+		assertEquals(List.of(30104L, 30105L), jdbcTemplate.queryForList("select id from users order by id", Long.class));
+	}
+
+	@Test
+	void stopsAtBrokenSyntaxAndKeepsEarlierRows() {
+		String roster = "[" + student("ada") + ", {\"name\": \"Broken\", \"email\": }, " + student("grace") + "]";
+
+		OnboardingReport report = importer.importUsers(new ByteArrayInputStream(roster.getBytes(StandardCharsets.UTF_8)));
+
+		assertEquals(1, report.getCreated());
+		assertEquals(1, report.getRejected());
+		List<Outcome> outcomes = report.getRows().stream().map(OnboardingReport.Row::getOutcome).toList();
+		assertEquals(List.of(Outcome.CREATED, Outcome.INVALID), outcomes);
+		assertEquals(List.of("ada@uni.edu"), jdbcTemplate.queryForList("select email from users", String.class));
+	}
+
+	private static String student(String name) {
+		return "{\"name\": \"" + name + "\", \"email\": \"" + name + "@uni.edu\", \"password\": \"secret\", "
+				+ "\"university\": \"Uni\", \"course\": \"CS\"}";
+	}
+}
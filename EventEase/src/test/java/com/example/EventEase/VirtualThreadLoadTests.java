@@ -0,0 +1,213 @@
+package com.example.EventEase;
+
+import com.example.EventEase.Config.BoundedDataSource;
+import com.example.EventEase.Entity.Admin;
+import com.example.EventEase.Entity.Event;
+import com.example.EventEase.Entity.User;
+import com.example.EventEase.Repository.AdminRepository;
+import com.example.EventEase.Repository.EventRepository;
+import com.example.EventEase.Repository.UserRepository;
+import com.example.EventEase.Service.SeatInventory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+// Run with -Dloadtest=true (and optionally -Dloadtest.mode=DATABASE or JOURNAL). Uses an in-memory H2 database.
+// The same ticket drop on virtual threads and on a platform thread pool: far more concurrent requests than database connections.
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(properties = {
+		"eventease.booking.mode=${loadtest.mode:INVENTORY}",
+		"spring.threads.virtual.enabled=true",
+		"eventease.datasource.max-concurrent=" + VirtualThreadLoadTests.MAX_CONNECTIONS
+})
+@ActiveProfiles("loadtest")
+class VirtualThreadLoadTests {
+
+	private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoadTests.class);
+
+	static final int MAX_CONNECTIONS = 4;
+	private static final int CLIENTS = 2_000;
+	private static final int SEATS = 150;
+	private static final int PLATFORM_THREADS = 200;
+
+	// MockMvc runs each request on the calling thread, so the client executor is the server's request thread model:
+	// one virtual thread per request, or a pool the size of Tomcat's default worker pool.
+	enum ThreadModel {
+		VIRTUAL(Executors::newVirtualThreadPerTaskExecutor),
+		PLATFORM(() -> Executors.newFixedThreadPool(PLATFORM_THREADS));
+
+		private final Supplier<ExecutorService> executor;
+
+		ThreadModel(Supplier<ExecutorService> executor) {
+			this.executor = executor;
+		}
+	}
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private AdminRepository adminRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private SeatInventory seatInventory;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+	}
+
+	@ParameterizedTest
+	@EnumSource(ThreadModel.class)
+	void ticketDropSellsOutWithoutLeakingConnections(ThreadModel model) throws Exception {
+		BoundedDataSource bounded = assertInstanceOf(BoundedDataSource.class, dataSource);
+		List<User> users = new ArrayList<>(CLIENTS);
+		Long eventId = seed(model.name().toLowerCase(Locale.ROOT), users);
+
+		Map<Integer, AtomicInteger> statuses = new ConcurrentHashMap<>();
+		AtomicInteger peakQueue = new AtomicInteger();
+		List<Future<Long>> futures = new ArrayList<>(CLIENTS);
+
+		long start = System.nanoTime();
+		try (ExecutorService executor = model.executor.get()) {
+			for (User user : users) {
+				futures.add(executor.submit(() -> {
+					SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+							user.getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+					try {
+						long begin = System.nanoTime();
+						int status = mockMvc.perform(post("/api/bookings/reserve/{eventId}", eventId))
+								.andReturn().getResponse().getStatus();
+						statuses.computeIfAbsent(status, s -> new AtomicInteger()).incrementAndGet();
+						peakQueue.accumulateAndGet(bounded.queueLength(), Math::max);
+						return System.nanoTime() - begin;
+					} finally {
+						SecurityContextHolder.clearContext();
+					}
+				}));
+			}
+
+			long[] latencies = new long[CLIENTS];
+			for (int i = 0; i < CLIENTS; i++) {
+				latencies[i] = futures.get(i).get();
+			}
+			long elapsed = System.nanoTime() - start;
+
+			Arrays.sort(latencies);
+			log.info("{} threads: {} clients over {} connections: statuses {}, peak connection queue {}",
+					model, CLIENTS, MAX_CONNECTIONS, statuses, peakQueue.get());
+			log.info("{} threads: {} req/s, p50={}ms, p99={}ms", model, Math.round(CLIENTS / (elapsed / 1e9)),
+					latencies[CLIENTS / 2] / 1_000_000, latencies[(int) (CLIENTS * 0.99)] / 1_000_000);
+		}
+
+		// 200 booked, 400 sold out; 409 and 503 are the retryable answers to contention.
+		assertTrue(List.of(200, 400, 409, 503).containsAll(statuses.keySet()), "unexpected statuses " + statuses);
+		int confirmed = statuses.getOrDefault(200, new AtomicInteger()).get();
+		int retryable = statuses.getOrDefault(409, new AtomicInteger()).get() + statuses.getOrDefault(503, new AtomicInteger()).get();
+		assertTrue(confirmed <= SEATS, "oversold: " + confirmed + " > " + SEATS);
+		if (retryable == 0) {
+			assertEquals(SEATS, confirmed);
+		}
+
+		assertTrue(peakQueue.get() > 0, "requests never had to wait for a connection");
+		// Background jobs such as the write-behind flush may hold a connection for a moment; a leaked one never comes back.
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (bounded.availablePermits() < MAX_CONNECTIONS && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(MAX_CONNECTIONS, bounded.availablePermits(), "connection permits leaked");
+
+		seatInventory.flush();
+		assertEquals(confirmed, jdbcTemplate.queryForObject("select count(*) from bookings where event_id = ?", Integer.class, eventId));
+		assertEquals(confirmed, jdbcTemplate.queryForObject("select booked_seats from events where id = ?", Integer.class, eventId));
+	}
+
+	private Long seed(String prefix, List<User> users) {
+		return transactionTemplate.execute(status -> {
+			Admin admin = new Admin();
+			admin.setName("Ticket Drop Admin");
+			admin.setLocation("Ahmedabad");
+			admin.setEmail(prefix + "-drop-admin@eventease.dev");
+			admin.setPassword("unused");
+			admin.setContact("0000000000");
+			admin = adminRepository.save(admin);
+
+			List<User> newUsers = new ArrayList<>(CLIENTS);
+			for (int i = 0; i < CLIENTS; i++) {
+				User user = new User();
+				user.setName("Drop User " + i);
+				user.setEmail(prefix + "-dropuser" + i + "@eventease.dev");
+				user.setPassword("unused");
+				user.setUniversity("University " + (i % 25));
+				user.setCourse("Course " + (i % 12));
+				user.setCurrentlyStudyingOrNot(true);
+				newUsers.add(user);
+			}
+			users.addAll(userRepository.saveAll(newUsers));
+
+			Event event = new Event();
+			event.setName("Ticket Drop");
+			event.setAbout("Seeded for the virtual thread load test");
+			event.setOrganizationName("Load Org");
+			event.setDate(LocalDateTime.now().plusDays(1));
+			event.setVenue("Main Hall");
+			event.setTotalSeats(SEATS);
+			event.setBookedSeats(0);
+			event.setAdmin(admin);
+			event = eventRepository.save(event);
+			seatInventory.track(event);
+			return event.getId();
+		});
+	}
+}